@@ -1,22 +1,42 @@
 package com.sfdesat;
 
 import com.sfdesat.coldbreath.breath.BreathController;
+import com.sfdesat.coldbreath.breath.EligibilityCache;
+import com.sfdesat.coldbreath.breath.EmitterProfiles;
+import com.sfdesat.coldbreath.breath.EntityBreathEngine;
+import com.sfdesat.coldbreath.breath.HeatSourceIndex;
+import com.sfdesat.coldbreath.breath.ParticleBudget;
+import com.sfdesat.coldbreath.breath.SkyExposureCache;
+import com.sfdesat.coldbreath.breath.TemperatureCache;
 import com.sfdesat.coldbreath.debug.DebugChat;
 import com.sfdesat.coldbreath.debug.DebugHud;
 import com.sfdesat.coldbreath.debug.DebugManager;
+import com.sfdesat.coldbreath.particle.BreathParticle;
+import com.sfdesat.coldbreath.particle.BreathParticleTypes;
 import com.sfdesat.coldbreath.season.SeasonDetector;
 import com.sfdesat.coldbreath.season.SeasonManager;
+import com.sfdesat.coldbreath.temperature.TemperatureProviders;
 import com.sfdesat.config.ConfigManager;
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.particle.v1.ParticleFactoryRegistry;
 
 public class ColdBreathClient implements ClientModInitializer {
     @Override
     public void onInitializeClient() {
         SeasonDetector.init();
-        SeasonManager.applyConfig(ConfigManager.get());
+        SeasonManager.applyConfig(ConfigManager.effective());
+        TemperatureProviders.INSTANCE.init();
+        ParticleFactoryRegistry.getInstance().register(BreathParticleTypes.BREATH, BreathParticle.Provider::new);
+        EmitterProfiles.INSTANCE.register();
+        TemperatureCache.INSTANCE.register();
+        EligibilityCache.INSTANCE.register();
+        HeatSourceIndex.INSTANCE.register();
+        SkyExposureCache.INSTANCE.register();
+        ParticleBudget.INSTANCE.register();
         BreathController.INSTANCE.register();
+        EntityBreathEngine.INSTANCE.register();
 
-        DebugManager debugManager = new DebugManager(BreathController.INSTANCE.getBlends());
+        DebugManager debugManager = new DebugManager(BreathController.INSTANCE::getBlends);
 
         try {
             new DebugHud(debugManager).register();
@@ -1,10 +1,13 @@
 package com.sfdesat.coldbreath.api;
 
-import com.sfdesat.coldbreath.breath.EnvModel;
+import com.sfdesat.coldbreath.breath.EligibilityCache;
 import com.sfdesat.coldbreath.season.SeasonDetector;
 import com.sfdesat.coldbreath.season.SeasonManager;
-import com.sfdesat.config.ColdBreathConfig;
+import com.sfdesat.coldbreath.sim.BreathDecision;
+import com.sfdesat.coldbreath.sim.BreathEligibility;
+import com.sfdesat.coldbreath.sim.BreathInputs;
 import com.sfdesat.config.ConfigManager;
+import com.sfdesat.config.EffectiveConfig;
 import net.fabricmc.fabric.api.event.Event;
 import net.fabricmc.fabric.api.event.EventFactory;
 import net.minecraft.client.Minecraft;
@@ -22,15 +25,27 @@ public final class ColdBreathApi {
 
 	private ColdBreathApi() {}
 
+	// Invoker the event hands out while nobody is registered; lets publishing skip building the event.
+	private static final Consumer<BreathEvent> NO_BREATH_LISTENERS = event -> { };
+
 	/**
 	 * Fired whenever the mod triggers a breath emission.
 	 */
-	public static final Event<Consumer<BreathEvent>> BREATH_EVENT = EventFactory.createArrayBacked(Consumer.class, callbacks -> event -> {
+	public static final Event<Consumer<BreathEvent>> BREATH_EVENT = EventFactory.createArrayBacked(Consumer.class, NO_BREATH_LISTENERS, callbacks -> event -> {
 		for (Consumer<BreathEvent> callback : callbacks) {
 			callback.accept(event);
 		}
 	});
 
+	/**
+	 * Fired when the season phase reported by the active season source changes.
+	 */
+	public static final Event<Consumer<SeasonPhaseEvent>> SEASON_PHASE_EVENT = EventFactory.createArrayBacked(Consumer.class, callbacks -> event -> {
+		for (Consumer<SeasonPhaseEvent> callback : callbacks) {
+			callback.accept(event);
+		}
+	});
+
 	/**
 	 * Convenience wrapper to register for {@link #BREATH_EVENT}.
 	 */
@@ -38,6 +53,13 @@ public final class ColdBreathApi {
 		BREATH_EVENT.register(Objects.requireNonNull(listener, "listener"));
 	}
 
+	/**
+	 * Convenience wrapper to register for {@link #SEASON_PHASE_EVENT}.
+	 */
+	public static void registerSeasonPhaseListener(Consumer<SeasonPhaseEvent> listener) {
+		SEASON_PHASE_EVENT.register(Objects.requireNonNull(listener, "listener"));
+	}
+
 	/**
 	 * Returns the latest captured breath state for the local player, if available.
 	 */
@@ -45,29 +67,23 @@ public final class ColdBreathApi {
 		Minecraft client = Minecraft.getInstance();
 		if (client == null || client.level == null || client.player == null) return Optional.empty();
 
-		ColdBreathConfig cfg = ConfigManager.get();
+		EffectiveConfig cfg = ConfigManager.effective();
 		ClientLevel level = client.level;
 		Player player = client.player;
 
-		SeasonManager.refresh(level);
-
-		EnvModel.BreathEligibility eligibility = EnvModel.checkEligibility(level, player, cfg);
+		BreathEligibility eligibility = EligibilityCache.INSTANCE.eligibility(level, player, cfg);
 		boolean underwater = player.isUnderWater() && cfg.underwaterEnabled;
-		float temperature = EnvModel.computeEffectiveTemperature(level, player.blockPosition(), cfg);
-		boolean condensationActive = eligibility.allowed()
+		float temperature = EligibilityCache.INSTANCE.temperature(level, player, cfg);
+		return Optional.of(state(eligibility.allowed(), eligibility.reason(), temperature, underwater, SeasonManager.getCurrentPhase(), cfg));
+	}
+
+	private static BreathState state(boolean visible, String reason, float temperature, boolean underwater,
+									 com.sfdesat.coldbreath.season.SeasonPhase phase, EffectiveConfig cfg) {
+		boolean condensationActive = visible
 				&& temperature > cfg.alwaysBreathTemperature
 				&& !cfg.alwaysShowBreath
 				&& !underwater;
-
-		return Optional.of(new BreathState(
-				eligibility.allowed(),
-				eligibility.reason(),
-				temperature,
-				condensationActive,
-				underwater,
-				SeasonManager.getCurrentMod(),
-				SeasonManager.getCurrentPhase()
-		));
+		return new BreathState(visible, reason, temperature, condensationActive, underwater, SeasonManager.getCurrentMod(), phase);
 	}
 
 	/**
@@ -75,6 +91,15 @@ public final class ColdBreathApi {
 	 */
 	public record BreathEvent(BreathState state) {}
 
+	/**
+	 * Season phase transition; {@code previous} is {@code UNKNOWN} for the first sample after joining a level.
+	 */
+	public record SeasonPhaseEvent(
+			com.sfdesat.coldbreath.season.SeasonPhase previous,
+			com.sfdesat.coldbreath.season.SeasonPhase current,
+			SeasonDetector.SeasonMod seasonMod
+	) {}
+
 	/**
 	 * Immutable representation of the current breath state. Note that temperature is the effective
 	 * temperature at the player's position, accounting for altitude and seasonal adjustments.
@@ -90,9 +115,23 @@ public final class ColdBreathApi {
 	) {}
 
 	/**
-	 * Internal hook used by Cold Breath to notify listeners. Do not call externally.
+	 * Internal hook used by Cold Breath to notify listeners of a visible breath, built from the inputs the decision
+	 * was made on. Does nothing while no listener is registered. Do not call externally.
+	 */
+	public static void publishBreathEvent(BreathDecision decision, BreathInputs inputs) {
+		Consumer<BreathEvent> invoker = BREATH_EVENT.invoker();
+		if (invoker == NO_BREATH_LISTENERS) return;
+		BreathState state = state(decision.visible(), decision.reason(), inputs.temperature(), decision.underwater(),
+				inputs.seasonPhase(), ConfigManager.effective());
+		invoker.accept(new BreathEvent(state));
+	}
+
+	/**
+	 * Internal hook used by the season manager. Do not call externally.
 	 */
-	public static void publishBreathEvent() {
-		currentState().ifPresent(state -> BREATH_EVENT.invoker().accept(new BreathEvent(state)));
+	public static void publishSeasonPhaseChange(com.sfdesat.coldbreath.season.SeasonPhase previous,
+												com.sfdesat.coldbreath.season.SeasonPhase current,
+												SeasonDetector.SeasonMod mod) {
+		SEASON_PHASE_EVENT.invoker().accept(new SeasonPhaseEvent(previous, current, mod));
 	}
 }
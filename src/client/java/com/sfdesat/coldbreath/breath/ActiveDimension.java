@@ -0,0 +1,49 @@
+package com.sfdesat.coldbreath.breath;
+
+import com.sfdesat.coldbreath.sim.BreathKernel;
+import com.sfdesat.coldbreath.sim.DimensionKind;
+import com.sfdesat.coldbreath.sim.DimensionProfile;
+import com.sfdesat.coldbreath.sim.ParticleStyle;
+import com.sfdesat.config.EffectiveConfig;
+import net.minecraft.client.multiplayer.ClientLevel;
+
+/**
+ * The dimension profile for the current client level, resolved once when the level (or the config) changes and
+ * then read from a field, so eligibility and temperature never look at dimension keys per tick.
+ */
+public final class ActiveDimension {
+
+	private ClientLevel level;
+	private long generation = -1L;
+	private Resolved resolved;
+
+	private ActiveDimension() {}
+
+	public Resolved get(ClientLevel level, EffectiveConfig cfg) {
+		if (level != this.level || cfg.generation != generation) {
+			this.level = level;
+			this.generation = cfg.generation;
+			this.resolved = resolve(level, cfg);
+		}
+		return resolved;
+	}
+
+	private static Resolved resolve(ClientLevel level, EffectiveConfig cfg) {
+		String id = level.dimension().identifier().toString();
+		DimensionKind kind = EnvModel.getDimensionKind(level);
+		DimensionProfile profile = cfg.dimensionProfile(id);
+		return new Resolved(
+				id,
+				kind,
+				BreathKernel.isDimensionVisible(kind, profile, cfg),
+				profile.temperatureOffset(),
+				profile.seaLevel() != null ? profile.seaLevel() : level.getSeaLevel(),
+				profile.particleStyle() == ParticleStyle.DEFAULT ? ParticleStyle.BREATH : profile.particleStyle()
+		);
+	}
+
+	public record Resolved(String id, DimensionKind kind, boolean visible, double temperatureOffset, int seaLevel,
+						   ParticleStyle particleStyle) {}
+
+	public static final ActiveDimension INSTANCE = new ActiveDimension();
+}
@@ -0,0 +1,116 @@
+package com.sfdesat.coldbreath.breath;
+
+import com.sfdesat.config.EffectiveConfig;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.QuartPos;
+
+/**
+ * Blended biome base temperature: a tent-weighted average over the biome columns within the configured radius,
+ * sampled on the game's 4-block biome grid through {@link TemperatureCache}. The local player's window is a
+ * toroidal grid that slides with them, so moving one cell only samples the newly exposed edge; other positions
+ * use {@link #sample} and pay the whole kernel against the cache. The window is rebuilt whenever the cache drops
+ * sections, since the columns it holds may have been read from a chunk that had not arrived yet.
+ */
+public final class BiomeBlend {
+
+	private static int weightsRadius = -1;
+	private static float[] weights = new float[0];
+
+	private ClientLevel level;
+	private int radius = -1;
+	private int size;
+	private float[] window = new float[0];
+	private int centerX;
+	private int centerY;
+	private int centerZ;
+	private float blended;
+	private long cacheVersion = -1L;
+
+	private BiomeBlend() {}
+
+	/**
+	 * Blended base temperature around the local player, reusing the columns already in the sliding window.
+	 */
+	public float around(ClientLevel level, int x, int y, int z, EffectiveConfig cfg) {
+		if (!cfg.biomeBlendEnabled) return TemperatureCache.INSTANCE.baseTemperature(level, x, y, z);
+		int r = cfg.biomeBlendQuartRadius;
+		int qx = QuartPos.fromBlock(x);
+		int qy = QuartPos.fromBlock(y);
+		int qz = QuartPos.fromBlock(z);
+
+		boolean rebuild = level != this.level || r != radius || qy != centerY
+				|| TemperatureCache.INSTANCE.version() != cacheVersion
+				|| Math.abs(qx - centerX) >= size || Math.abs(qz - centerZ) >= size;
+		if (!rebuild && qx == centerX && qz == centerZ) return blended;
+
+		if (rebuild) {
+			this.level = level;
+			this.radius = r;
+			this.size = 2 * r + 1;
+			if (window.length != size * size) window = new float[size * size];
+		}
+		float[] w = weightsFor(r);
+		int oldX = centerX;
+		int oldZ = centerZ;
+		double sum = 0.0;
+		for (int dx = -r; dx <= r; dx++) {
+			int cx = qx + dx;
+			int col = Math.floorMod(cx, size);
+			boolean keptX = !rebuild && Math.abs(cx - oldX) <= r;
+			for (int dz = -r; dz <= r; dz++) {
+				int cz = qz + dz;
+				int slot = col * size + Math.floorMod(cz, size);
+				if (!keptX || Math.abs(cz - oldZ) > r) {
+					window[slot] = TemperatureCache.INSTANCE.baseTemperature(level, QuartPos.toBlock(cx), y, QuartPos.toBlock(cz));
+				}
+				sum += window[slot] * w[(dx + r) * size + (dz + r)];
+			}
+		}
+		centerX = qx;
+		centerY = qy;
+		centerZ = qz;
+		cacheVersion = TemperatureCache.INSTANCE.version();
+		blended = (float) sum;
+		return blended;
+	}
+
+	/**
+	 * Blended base temperature at an arbitrary position, without the sliding window.
+	 */
+	public static float sample(ClientLevel level, int x, int y, int z, EffectiveConfig cfg) {
+		if (!cfg.biomeBlendEnabled) return TemperatureCache.INSTANCE.baseTemperature(level, x, y, z);
+		int r = cfg.biomeBlendQuartRadius;
+		int n = 2 * r + 1;
+		float[] w = weightsFor(r);
+		int qx = QuartPos.fromBlock(x);
+		int qz = QuartPos.fromBlock(z);
+		double sum = 0.0;
+		for (int dx = -r; dx <= r; dx++) {
+			for (int dz = -r; dz <= r; dz++) {
+				sum += TemperatureCache.INSTANCE.baseTemperature(level, QuartPos.toBlock(qx + dx), y, QuartPos.toBlock(qz + dz))
+						* w[(dx + r) * n + (dz + r)];
+			}
+		}
+		return (float) sum;
+	}
+
+	private static float[] weightsFor(int r) {
+		if (r == weightsRadius) return weights;
+		int n = 2 * r + 1;
+		float[] w = new float[n * n];
+		double total = 0.0;
+		for (int dx = -r; dx <= r; dx++) {
+			for (int dz = -r; dz <= r; dz++) {
+				double weight = (double) (r + 1 - Math.abs(dx)) * (r + 1 - Math.abs(dz));
+				w[(dx + r) * n + (dz + r)] = (float) weight;
+				total += weight;
+			}
+		}
+		for (int i = 0; i < w.length; i++) w[i] = (float) (w[i] / total);
+		weights = w;
+		weightsRadius = r;
+		return w;
+	}
+
+	public static final BiomeBlend INSTANCE = new BiomeBlend();
+}
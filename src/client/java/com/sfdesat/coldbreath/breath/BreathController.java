@@ -1,34 +1,39 @@
 package com.sfdesat.coldbreath.breath;
 
+import com.sfdesat.ColdBreathMod;
 import com.sfdesat.coldbreath.api.ColdBreathApi;
-import com.sfdesat.coldbreath.season.SeasonManager;
-import com.sfdesat.config.ColdBreathConfig;
+import com.sfdesat.coldbreath.sim.BlendState;
+import com.sfdesat.coldbreath.sim.BreathDecision;
+import com.sfdesat.coldbreath.sim.BreathInputs;
+import com.sfdesat.coldbreath.sim.BreathRandom;
+import com.sfdesat.coldbreath.sim.BreathSimulation;
+import com.sfdesat.coldbreath.sim.BreathTrace;
+import com.sfdesat.coldbreath.sim.StatusModifiers;
 import com.sfdesat.config.ConfigManager;
+import com.sfdesat.config.EffectiveConfig;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.world.entity.player.Player;
 
-import java.util.concurrent.ThreadLocalRandom;
-
-public final class BreathController {
-
-	private static final int TICKS_PER_SECOND = 20;
-	private static final int BURST_EMIT_PERIOD_TICKS = 3;
-	private static final double INTERVAL_TIE_EPSILON = 1e-6;
-
-	private long nextBreathTick;
-	private long breathBurstEndTick;
-	private long nextBurstEmitTick;
-	private long internalTick;
-	private final StateBlends blends;
+/**
+ * Drives the local player's {@link BreathSimulation} from the client tick and turns its output into particles
+ * and API events. Can record the per-tick inputs into a {@link BreathTrace}, or play one back in place of the
+ * live player state.
+ */
+public final class BreathController implements BreathSimulation.Environment, BreathSimulation.Output {
+
+	private BreathSimulation simulation;
+	private BreathTrace recording;
+	private BreathTrace replay;
+	private int replayFrame;
+	private int replayDivergence = -1;
+	private int replayBreaths;
+	// Inputs captured for the current tick while recording or replaying; sampled lazily otherwise.
+	private BreathInputs frameInputs;
 
 	public BreathController() {
-		this.nextBreathTick = 0L;
-		this.breathBurstEndTick = 0L;
-		this.nextBurstEmitTick = 0L;
-		this.internalTick = 0L;
-		this.blends = new StateBlends();
+		this.simulation = new BreathSimulation();
 	}
 
 	public void register() {
@@ -36,147 +41,136 @@ public final class BreathController {
 	}
 
 	private void onTick(Minecraft client) {
-		ColdBreathConfig cfg = ConfigManager.get();
+		EffectiveConfig cfg = ConfigManager.effective();
 		if (!cfg.enabled) return;
 		if (client.isPaused()) return;
 		ClientLevel level = client.level;
 		Player player = client.player;
 		if (level == null || player == null) return;
 
-		long time = ++internalTick;
-		blends.tick(player, cfg);
-
-		if (time < breathBurstEndTick) {
-			if (time >= nextBurstEmitTick) {
-				if (player.isUnderWater()) {
-					if (cfg.underwaterEnabled) BreathSpawner.spawnUnderwater(client, level, player);
-				} else {
-					BreathSpawner.spawnAir(client, level, player, cfg);
-				}
-				nextBurstEmitTick = time + BURST_EMIT_PERIOD_TICKS;
-			}
+		if (replay != null) {
+			tickReplay(cfg);
 			return;
 		}
 
-		if (time < nextBreathTick) return;
-		SeasonManager.refresh(level);
-
-		if (!EnvModel.isEligibleNow(level, player, cfg)) {
-			scheduleNext(time, cfg);
-			return;
+		StatusModifiers modifiers = StatusEffectTracker.INSTANCE.current(player, cfg);
+		if (recording != null) {
+			frameInputs = EligibilityCache.INSTANCE.captureInputs(level, player, cfg);
+			recording.record(frameInputs, modifiers);
+		}
+		try {
+			simulation.tick(player.isSprinting(), player.isUnderWater(), player.getHealth() / player.getMaxHealth(),
+					modifiers, this, this, cfg, BreathRandom.localSchedule());
+		} finally {
+			frameInputs = null;
 		}
+	}
 
-		if (player.isUnderWater() && cfg.underwaterEnabled) {
-			startBurst(time, cfg);
-			scheduleNextUnderwater(time, cfg);
-			ColdBreathApi.publishBreathEvent();
+	private void tickReplay(EffectiveConfig cfg) {
+		BreathTrace trace = replay;
+		if (replayFrame >= trace.size()) {
+			finishReplay();
 			return;
 		}
+		int i = replayFrame++;
+		frameInputs = trace.inputs(i);
+		try {
+			simulation.tick(trace.sprinting(i), trace.underwater(i), trace.healthRatio(i), trace.modifiers(i), this, this,
+					cfg, BreathRandom.localSchedule());
+		} finally {
+			frameInputs = null;
+		}
+	}
 
-		startBurst(time, cfg);
-		scheduleNext(time, cfg);
-		ColdBreathApi.publishBreathEvent();
+	@Override
+	public BreathInputs sample() {
+		if (frameInputs != null) return frameInputs;
+		Minecraft client = Minecraft.getInstance();
+		return EligibilityCache.INSTANCE.captureInputs(client.level, client.player, ConfigManager.effective());
 	}
 
-	private void startBurst(long now, ColdBreathConfig cfg) {
-		breathBurstEndTick = now + cfg.breathBurstDurationTicks;
-		nextBurstEmitTick = now;
+	@Override
+	public void breath(BreathDecision decision, BreathInputs inputs, long tick) {
+		if (recording != null) recording.recordBreath(tick);
+		if (replay != null) {
+			int index = replayBreaths++;
+			if (replayDivergence < 0 && (index >= replay.breathCount() || replay.breathTick(index) != tick)) {
+				replayDivergence = index;
+			}
+		}
+		if (decision.visible()) ColdBreathApi.publishBreathEvent(decision, inputs);
 	}
 
-	private void scheduleNext(long nowTick, ColdBreathConfig cfg) {
-		double baseNormal = Math.max(0.1, cfg.baseIntervalSeconds);
-		double devNormal = Math.max(0.0, cfg.intervalDeviationSeconds);
-		double baseSprint = Math.max(0.1, cfg.sprintBaseIntervalSeconds);
-		double devSprint = Math.max(0.0, cfg.sprintIntervalDeviationSeconds);
-		double baseHealth = Math.max(0.1, cfg.lowHealthIntervalSeconds);
-		double devHealth = Math.max(0.0, cfg.healthIntervalDeviationSeconds);
-
-		double sprintT = (cfg.sprintingIntervalsEnabled ? blends.getSprintBlend() : 0.0);
-		double healthT = (cfg.healthBasedBreathingEnabled ? blends.getHealthBlend() : 0.0);
-
-		double afterSprint = lerp(baseNormal, baseSprint, sprintT);
-		double devAfterSprint = lerp(devNormal, devSprint, sprintT);
-		double afterHealth = lerp(baseNormal, baseHealth, healthT);
-		double devAfterHealth = lerp(devNormal, devHealth, healthT);
-
-		double base;
-		double dev;
-		if (Math.abs(afterSprint - afterHealth) <= INTERVAL_TIE_EPSILON) {
-			base = afterSprint;
-			dev = 0.5 * (devAfterSprint + devAfterHealth);
-		} else if (afterSprint < afterHealth) {
-			base = afterSprint;
-			dev = devAfterSprint;
+	@Override
+	public void emit(boolean underwater, long tick) {
+		Minecraft client = Minecraft.getInstance();
+		ClientLevel level = client.level;
+		Player player = client.player;
+		EffectiveConfig cfg = ConfigManager.effective();
+		double lodScale = BreathLod.particleScale(client, player.getX(), player.getEyeY(), player.getZ(), cfg);
+		if (lodScale <= 0.0) return;
+		if (underwater) {
+			BreathSpawner.spawnUnderwater(client, level, player, lodScale);
 		} else {
-			base = afterHealth;
-			dev = devAfterHealth;
+			BreathSpawner.spawnAir(client, level, player, cfg, lodScale);
 		}
+	}
 
-		double minSec = Math.max(0.1, base - dev);
-		double maxSec = Math.max(minSec, base + dev);
-		double waitSec = (maxSec <= minSec) ? minSec : ThreadLocalRandom.current().nextDouble(minSec, maxSec);
-		int waitTicks = Math.max(1, (int) Math.round(waitSec * TICKS_PER_SECOND));
-		this.nextBreathTick = nowTick + waitTicks;
+	/**
+	 * Reseeds the random streams, restarts the simulation and records every tick from now on.
+	 */
+	public void startRecording(long seed) {
+		stopReplay();
+		BreathRandom.seed(seed);
+		simulation = new BreathSimulation();
+		recording = new BreathTrace(seed);
 	}
 
-	private static double lerp(double a, double b, double t) { return a + (b - a) * t; }
+	/**
+	 * Stops recording and returns the trace, or null if nothing was being recorded.
+	 */
+	public BreathTrace stopRecording() {
+		BreathTrace trace = recording;
+		recording = null;
+		return trace;
+	}
 
-	private void scheduleNextUnderwater(long nowTick, ColdBreathConfig cfg) {
-		double base = Math.max(0.1, cfg.underwaterBaseIntervalSeconds);
-		double dev = Math.max(0.0, cfg.underwaterIntervalDeviationSeconds);
-		double minSec = Math.max(0.1, base - dev);
-		double maxSec = Math.max(minSec, base + dev);
-		double waitSec = (maxSec <= minSec) ? minSec : ThreadLocalRandom.current().nextDouble(minSec, maxSec);
-		int waitTicks = Math.max(1, (int) Math.round(waitSec * TICKS_PER_SECOND));
-		this.nextBreathTick = nowTick + waitTicks;
+	/**
+	 * Plays {@code trace} back through a fresh simulation in place of the live player state, spawning its
+	 * particles at the player.
+	 */
+	public void startReplay(BreathTrace trace) {
+		recording = null;
+		BreathRandom.seed(trace.seed());
+		simulation = new BreathSimulation();
+		replay = trace;
+		replayFrame = 0;
+		replayBreaths = 0;
+		replayDivergence = -1;
 	}
 
-	public double getCurrentBaseIntervalSeconds(ColdBreathConfig cfg) {
-		double baseNormal = Math.max(0.1, cfg.baseIntervalSeconds);
-		double baseSprint = Math.max(0.1, cfg.sprintBaseIntervalSeconds);
-		double baseHealth = Math.max(0.1, cfg.lowHealthIntervalSeconds);
-		double sprintT = (cfg.sprintingIntervalsEnabled ? blends.getSprintBlend() : 0.0);
-		double healthT = (cfg.healthBasedBreathingEnabled ? blends.getHealthBlend() : 0.0);
-		double afterSprint = lerp(baseNormal, baseSprint, sprintT);
-		double afterHealth = lerp(baseNormal, baseHealth, healthT);
-		return Math.min(afterSprint, afterHealth);
+	public void stopReplay() {
+		if (replay == null) return;
+		replay = null;
+		simulation = new BreathSimulation();
 	}
 
-	public StateBlends getBlends() { return blends; }
-
-	public double[] getCurrentIntervalMinMaxSeconds(ColdBreathConfig cfg) {
-		double baseNormal = Math.max(0.1, cfg.baseIntervalSeconds);
-		double devNormal = Math.max(0.0, cfg.intervalDeviationSeconds);
-		double baseSprint = Math.max(0.1, cfg.sprintBaseIntervalSeconds);
-		double devSprint = Math.max(0.0, cfg.sprintIntervalDeviationSeconds);
-		double baseHealth = Math.max(0.1, cfg.lowHealthIntervalSeconds);
-		double devHealth = Math.max(0.0, cfg.healthIntervalDeviationSeconds);
-
-		double sprintT = (cfg.sprintingIntervalsEnabled ? blends.getSprintBlend() : 0.0);
-		double healthT = (cfg.healthBasedBreathingEnabled ? blends.getHealthBlend() : 0.0);
-
-		double afterSprint = lerp(baseNormal, baseSprint, sprintT);
-		double devAfterSprint = lerp(devNormal, devSprint, sprintT);
-		double afterHealth = lerp(baseNormal, baseHealth, healthT);
-		double devAfterHealth = lerp(devNormal, devHealth, healthT);
-
-		double base;
-		double dev;
-		if (Math.abs(afterSprint - afterHealth) <= INTERVAL_TIE_EPSILON) {
-			base = afterSprint;
-			dev = 0.5 * (devAfterSprint + devAfterHealth);
-		} else if (afterSprint < afterHealth) {
-			base = afterSprint;
-			dev = devAfterSprint;
+	private void finishReplay() {
+		BreathTrace trace = replay;
+		int divergence = replayDivergence;
+		if (divergence < 0 && replayBreaths != trace.breathCount()) divergence = Math.min(replayBreaths, trace.breathCount());
+		if (divergence < 0) {
+			ColdBreathMod.LOGGER.info("Cold Breath trace replay finished: {} ticks, {} breaths, matched recording", trace.size(), replayBreaths);
 		} else {
-			base = afterHealth;
-			dev = devAfterHealth;
+			ColdBreathMod.LOGGER.info("Cold Breath trace replay finished: {} ticks, {} breaths, diverged at breath {}", trace.size(), replayBreaths, divergence);
 		}
-
-		double minSec = Math.max(0.1, base - dev);
-		double maxSec = Math.max(minSec, base + dev);
-		return new double[] { minSec, maxSec };
+		stopReplay();
 	}
 
+	public boolean isRecording() { return recording != null; }
+	public boolean isReplaying() { return replay != null; }
+
+	public BlendState getBlends() { return simulation.getBlends(); }
+
 	public static final BreathController INSTANCE = new BreathController();
 }
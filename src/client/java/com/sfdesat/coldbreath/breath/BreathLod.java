@@ -0,0 +1,81 @@
+package com.sfdesat.coldbreath.breath;
+
+import com.sfdesat.config.EffectiveConfig;
+import net.minecraft.client.Minecraft;
+import net.minecraft.world.entity.Entity;
+
+/**
+ * Level-of-detail stage run before {@link BreathSpawner}. Decides what fraction of a burst's particles is worth
+ * spawning for an emitter, based on its distance to the camera and whether it sits inside the camera's view cone.
+ */
+public final class BreathLod {
+
+	private static final double REDUCED_SCALE = 0.5;
+	private static final double FAR_SCALE = 0.25;
+	private static final double CONE_MARGIN_RADIANS = Math.toRadians(10.0);
+	private static final double ALWAYS_VISIBLE_DISTANCE = 2.0;
+	private static final double THIRD_PERSON_VISIBLE_DISTANCE = 6.0;
+
+	private BreathLod() {}
+
+	/**
+	 * Returns the particle scale for an emitter at the given eye position: 1 for full detail, 0 to skip.
+	 */
+	public static double particleScale(Minecraft client, double x, double y, double z, EffectiveConfig cfg) {
+		if (!cfg.lodEnabled) return 1.0;
+		Entity camera = client.getCameraEntity();
+		if (camera == null) return 1.0;
+
+		double dx = x - camera.getX();
+		double dy = y - camera.getEyeY();
+		double dz = z - camera.getZ();
+		double distSq = dx * dx + dy * dy + dz * dz;
+
+		if (distSq > cfg.lodCullDistanceSq) return 0.0;
+
+		if (cfg.lodFrustumCulling && !isInViewCone(client, camera, dx, dy, dz, distSq)) return 0.0;
+
+		if (distSq <= cfg.lodFullDetailDistanceSq) return 1.0;
+		return distSq <= cfg.lodReducedDistanceSq ? REDUCED_SCALE : FAR_SCALE;
+	}
+
+	/**
+	 * Rounds {@code count * scale} to a whole particle count, carrying the fractional part as a probability so
+	 * low scales still emit occasionally instead of never.
+	 */
+	public static int scaleCount(int count, double scale, double roll) {
+		if (scale >= 1.0) return count;
+		if (scale <= 0.0) return 0;
+		double expected = count * scale;
+		int whole = (int) expected;
+		return roll < expected - whole ? whole + 1 : whole;
+	}
+
+	private static boolean isInViewCone(Minecraft client, Entity camera, double dx, double dy, double dz, double distSq) {
+		boolean thirdPerson = !client.options.getCameraType().isFirstPerson();
+		double alwaysVisible = thirdPerson ? THIRD_PERSON_VISIBLE_DISTANCE : ALWAYS_VISIBLE_DISTANCE;
+		if (distSq <= alwaysVisible * alwaysVisible) return true;
+
+		float pitch = camera.getXRot() * ((float) Math.PI / 180F);
+		float yaw = -camera.getYRot() * ((float) Math.PI / 180F);
+		double cosPitch = Math.cos(pitch);
+		double lookX = Math.sin(yaw) * cosPitch;
+		double lookY = -Math.sin(pitch);
+		double lookZ = Math.cos(yaw) * cosPitch;
+		if (client.options.getCameraType().isMirrored()) {
+			lookX = -lookX;
+			lookY = -lookY;
+			lookZ = -lookZ;
+		}
+
+		// Half-angle to the screen corner, so anything visible at the edges is kept.
+		double halfVertical = Math.toRadians(client.options.fov().get()) * 0.5;
+		int height = Math.max(1, client.getWindow().getHeight());
+		double aspect = (double) client.getWindow().getWidth() / height;
+		double halfDiagonal = Math.atan(Math.tan(halfVertical) * Math.sqrt(1.0 + aspect * aspect));
+		double cosLimit = Math.cos(Math.min(Math.PI, halfDiagonal + CONE_MARGIN_RADIANS));
+
+		double dot = dx * lookX + dy * lookY + dz * lookZ;
+		return dot >= cosLimit * Math.sqrt(distSq);
+	}
+}
@@ -1,60 +1,97 @@
 package com.sfdesat.coldbreath.breath;
 
-import com.sfdesat.config.ColdBreathConfig;
+import com.sfdesat.coldbreath.particle.BreathParticle;
+import com.sfdesat.coldbreath.particle.BreathParticleTypes;
+import com.sfdesat.coldbreath.sim.BreathEmission;
+import com.sfdesat.coldbreath.sim.BreathRandom;
+import com.sfdesat.coldbreath.sim.EmitterProfile;
+import com.sfdesat.coldbreath.sim.ParticleStyle;
+import com.sfdesat.coldbreath.sim.WindField;
+import com.sfdesat.config.EffectiveConfig;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.particles.DustParticleOptions;
+import net.minecraft.core.particles.ParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
-import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.entity.LivingEntity;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public final class BreathSpawner {
 
+	// Spawning only happens on the client thread, so one scratch buffer serves every emitter.
+	private static final double[] BUFFER = BreathEmission.newBuffer();
+
+	private static DustParticleOptions dust;
+	private static long dustGeneration = -1L;
+
 	private BreathSpawner() {}
 
-	public static void spawnAir(Minecraft client, ClientLevel level, Player player, ColdBreathConfig cfg) {
-		Vec3 headPos = new Vec3(player.getX(), player.getEyeY(), player.getZ());
-		Vec3 look = player.getViewVector(1.0f).normalize();
-		Vec3 forward = look.scale(cfg.forwardOffset);
-		Vec3 down = new Vec3(0, -cfg.downOffset, 0);
-		Vec3 spawn = headPos.add(forward).add(down);
+	public static void spawnAir(Minecraft client, ClientLevel level, LivingEntity entity, EffectiveConfig cfg, double lodScale) {
+		RandomGenerator r = BreathRandom.particles();
+		ParticleOptions particle = airParticle(ActiveDimension.INSTANCE.get(level, cfg).particleStyle(), cfg);
 
-		ThreadLocalRandom r = ThreadLocalRandom.current();
+		EmitterProfile profile = EmitterProfile.active();
+		int count = BreathLod.scaleCount(profile.sampleCount(EmitterProfile.AIR, r), lodScale * ParticleBudget.INSTANCE.scale(), r.nextDouble());
+		if (count <= 0) return;
+		double[] buf = BUFFER;
+		int n = BreathEmission.emit(profile, EmitterProfile.AIR, entity.getX(), entity.getEyeY(), entity.getZ(),
+				entity.getViewXRot(1.0F), entity.getViewYRot(1.0F), cfg.forwardOffset, cfg.downOffset, count, r, buf);
+		ParticleBudget.INSTANCE.onSpawned(n);
 
-		int count = r.nextInt(3) == 0 ? 2 : 1;
-		for (int i = 0; i < count; i++) {
-			double ox = (r.nextDouble() - 0.5) * 0.08;
-			double oy = (r.nextDouble() - 0.5) * 0.04;
-			double oz = (r.nextDouble() - 0.5) * 0.08;
+		float windSpeed = EnvModel.windSpeedAt(level, buf[0], buf[1], buf[2], cfg);
+		if (windSpeed <= 0.0F) {
+			add(level, particle, buf, n);
+			return;
+		}
+		// One field lookup per emit; every particle of the puff shares it.
+		double time = level.getGameTime();
+		double windX = windSpeed * WindField.x(buf[0], buf[2], time);
+		double windZ = windSpeed * WindField.z(buf[0], buf[2], time);
+		BreathEmission.drift(buf, n, windX, windZ);
+		BreathParticle.setEmitterWind(windX, windZ);
+		try {
+			add(level, particle, buf, n);
+		} finally {
+			BreathParticle.setEmitterWind(0.0, 0.0);
+		}
+	}
 
-			double vx = look.x * 0.003 + (r.nextDouble() - 0.5) * 0.002;
-			double vy = Math.max(0, look.y * 0.001) + (r.nextDouble() - 0.5) * 0.002;
-			double vz = look.z * 0.003 + (r.nextDouble() - 0.5) * 0.002;
+	public static void spawnUnderwater(Minecraft client, ClientLevel level, LivingEntity entity, double lodScale) {
+		RandomGenerator r = BreathRandom.particles();
+		EmitterProfile profile = EmitterProfile.active();
+		int bubbleCount = BreathLod.scaleCount(profile.sampleCount(EmitterProfile.UNDERWATER, r), lodScale * ParticleBudget.INSTANCE.scale(), r.nextDouble());
+		if (bubbleCount <= 0) return;
+		double[] buf = BUFFER;
+		int n = BreathEmission.emit(profile, EmitterProfile.UNDERWATER, entity.getX(), entity.getEyeY(), entity.getZ(),
+				entity.getViewXRot(1.0F), entity.getViewYRot(1.0F), 0.0, 0.0, bubbleCount, r, buf);
+		ParticleBudget.INSTANCE.onSpawned(n);
+		add(level, ParticleTypes.BUBBLE, buf, n);
+	}
 
-			DustParticleOptions dust = new DustParticleOptions(cfg.breathColor, (float) Math.max(0.1, cfg.breathSize));
-			level.addParticle(dust, spawn.x + ox, spawn.y + oy, spawn.z + oz, vx, vy, vz);
+	private static void add(ClientLevel level, ParticleOptions particle, double[] buf, int n) {
+		for (int i = 0, o = 0; i < n; i++, o += BreathEmission.STRIDE) {
+			level.addParticle(particle, buf[o], buf[o + 1], buf[o + 2], buf[o + 3], buf[o + 4], buf[o + 5]);
 		}
 	}
 
-	public static void spawnUnderwater(Minecraft client, ClientLevel level, Player player) {
-		Vec3 headPos = new Vec3(player.getX(), player.getEyeY(), player.getZ());
-		Vec3 look = player.getViewVector(1.0f).normalize();
-		Vec3 forward = look.scale(0.2);
-		Vec3 down = new Vec3(0, -0.05, 0);
-		Vec3 spawn = headPos.add(forward).add(down);
-
-		ThreadLocalRandom r = ThreadLocalRandom.current();
-		int bubbleCount = r.nextInt(2, 4);
-		for (int i = 0; i < bubbleCount; i++) {
-			double ox = (r.nextDouble() - 0.5) * 0.06;
-			double oy = (r.nextDouble() - 0.5) * 0.04;
-			double oz = (r.nextDouble() - 0.5) * 0.06;
-			double vx = (r.nextDouble() - 0.5) * 0.02;
-			double vy = 0.03 + r.nextDouble() * 0.02;
-			double vz = (r.nextDouble() - 0.5) * 0.02;
-			level.addParticle(ParticleTypes.BUBBLE, spawn.x + ox, spawn.y + oy, spawn.z + oz, vx, vy, vz);
+	private static ParticleOptions airParticle(ParticleStyle style, EffectiveConfig cfg) {
+		return switch (style) {
+			case SNOWFLAKE -> ParticleTypes.SNOWFLAKE;
+			case CLOUD -> ParticleTypes.CLOUD;
+			case DUST -> dust(cfg);
+			case BREATH, DEFAULT -> {
+				BreathParticle.configure(cfg);
+				yield BreathParticleTypes.BREATH;
+			}
+		};
+	}
+
+	private static DustParticleOptions dust(EffectiveConfig cfg) {
+		if (cfg.generation != dustGeneration) {
+			dustGeneration = cfg.generation;
+			dust = new DustParticleOptions(cfg.breathColor, cfg.breathSize);
 		}
+		return dust;
 	}
 }
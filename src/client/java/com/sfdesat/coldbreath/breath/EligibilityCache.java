@@ -0,0 +1,221 @@
+package com.sfdesat.coldbreath.breath;
+
+import com.sfdesat.coldbreath.season.SeasonManager;
+import com.sfdesat.coldbreath.season.SeasonPhase;
+import com.sfdesat.coldbreath.sim.BreathEligibility;
+import com.sfdesat.coldbreath.sim.BreathInputs;
+import com.sfdesat.coldbreath.sim.BreathKernel;
+import com.sfdesat.coldbreath.sim.StatusModifiers;
+import com.sfdesat.coldbreath.temperature.TemperaturePipeline;
+import com.sfdesat.coldbreath.temperature.TemperatureProviders;
+import com.sfdesat.config.EffectiveConfig;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.player.Player;
+
+/**
+ * Cached eligibility and environment for the local player. The biome lookup, temperature stages and eligibility
+ * chain are only redone when one of their inputs changes: block position, level, player flags (game mode,
+ * sleeping, dead, underwater), status effects, config generation, heat sources, sky exposure, rain level,
+ * temperature provider expiry, season phase, offset or condensation chance, or the condensation window boundary. Everything else
+ * (debug HUD, API, breath attempts) reads the cached values.
+ */
+public final class EligibilityCache {
+
+	private static final long DAY_TICKS = 24000L;
+	// Rain fades in and out over many ticks; only recompute when it moves by a sixteenth.
+	private static final int RAIN_STEPS = 16;
+
+	private static final int FLAG_SPECTATOR = 1;
+	private static final int FLAG_SLEEPING = 1 << 1;
+	private static final int FLAG_DEAD = 1 << 2;
+	private static final int FLAG_CREATIVE = 1 << 3;
+	private static final int FLAG_UNDERWATER = 1 << 4;
+
+	private ClientLevel level;
+	private long blockPos = Long.MIN_VALUE;
+	private long generation = -1L;
+	private long heatVersion = -1L;
+	private long skyVersion = -1L;
+	private long biomeVersion = -1L;
+	private int rainStep = -1;
+	private StatusModifiers modifiers;
+	private long providerValidUntil = Long.MAX_VALUE;
+	private int flags = -1;
+	private SeasonPhase phase;
+	private double seasonOffset = Double.NaN;
+	private float seasonCondensation = Float.NaN;
+	private long computedAt = Long.MIN_VALUE;
+	private long windowFlipAt = Long.MIN_VALUE;
+
+	private final float[] breakdown = new float[TemperaturePipeline.stageCount()];
+	private float baseTemperature;
+	private float temperature;
+	private BreathEligibility eligibility = BreathEligibility.deny("unknown");
+
+	private EligibilityCache() {}
+
+	public void register() {
+		ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> invalidate());
+	}
+
+	public BreathEligibility eligibility(ClientLevel level, Player player, EffectiveConfig cfg) {
+		validate(level, player, cfg);
+		return eligibility;
+	}
+
+	public float temperature(ClientLevel level, Player player, EffectiveConfig cfg) {
+		validate(level, player, cfg);
+		return temperature;
+	}
+
+	public float baseTemperature(ClientLevel level, Player player, EffectiveConfig cfg) {
+		validate(level, player, cfg);
+		return baseTemperature;
+	}
+
+	/**
+	 * Per-stage contributions to {@link #temperature}, indexed by {@link TemperaturePipeline.Stage} ordinal;
+	 * {@link Float#NaN} marks stages the current config leaves out. The array is owned by the cache.
+	 */
+	public float[] temperatureBreakdown(ClientLevel level, Player player, EffectiveConfig cfg) {
+		validate(level, player, cfg);
+		return breakdown;
+	}
+
+	/**
+	 * Full inputs for a breath attempt: live sprint and health, cached temperature and dimension.
+	 */
+	public BreathInputs captureInputs(ClientLevel level, Player player, EffectiveConfig cfg) {
+		validate(level, player, cfg);
+		ActiveDimension.Resolved dimension = ActiveDimension.INSTANCE.get(level, cfg);
+		return new BreathInputs(
+				player.isSpectator(),
+				player.isSleeping(),
+				player.isDeadOrDying(),
+				player.isCreative(),
+				player.isUnderWater(),
+				player.isSprinting(),
+				player.getHealth() / player.getMaxHealth(),
+				dimension.kind(),
+				dimension.visible(),
+				temperature,
+				level.getGameTime() % DAY_TICKS,
+				phase,
+				seasonCondensation
+		);
+	}
+
+	/**
+	 * Forgets the cached level and forces a full recompute on the next read. Level changes are picked up by
+	 * {@link #validate} on their own; this releases the last level once the player disconnects.
+	 */
+	public void invalidate() {
+		resetLevel(null);
+		modifiers = null;
+	}
+
+	private void validate(ClientLevel level, Player player, EffectiveConfig cfg) {
+		if (level != this.level) resetLevel(level);
+		SeasonManager.refresh(level);
+
+		long gameTime = level.getGameTime();
+		BlockPos pos = player.blockPosition();
+		long packedPos = pos.asLong();
+		int currentFlags = flagsOf(player);
+		SeasonPhase currentPhase = SeasonManager.getCurrentPhase();
+		double currentOffset = SeasonManager.getTemperatureOffset();
+		float currentCondensation = BreathKernel.seasonCondensation(currentPhase, SeasonManager.getCycleProgress(), cfg);
+
+		long currentHeatVersion = HeatSourceIndex.INSTANCE.version();
+		long currentSkyVersion = SkyExposureCache.INSTANCE.version();
+		long currentBiomeVersion = TemperatureCache.INSTANCE.version();
+		int currentRainStep = Math.round(level.getRainLevel(1.0F) * RAIN_STEPS);
+		boolean temperatureStale = packedPos != blockPos || cfg.generation != generation || currentHeatVersion != heatVersion
+				|| currentSkyVersion != skyVersion || currentBiomeVersion != biomeVersion || currentRainStep != rainStep
+				|| Double.compare(currentOffset, seasonOffset) != 0 || gameTime >= providerValidUntil;
+		StatusModifiers currentModifiers = StatusEffectTracker.INSTANCE.current(player, cfg);
+		boolean eligibilityStale = temperatureStale || currentFlags != flags || currentPhase != phase
+				|| Float.compare(currentCondensation, seasonCondensation) != 0
+				|| !currentModifiers.equals(modifiers)
+				|| gameTime >= windowFlipAt || gameTime < computedAt;
+		if (!eligibilityStale) return;
+
+		if (temperatureStale) {
+			TemperaturePipeline pipeline = TemperaturePipeline.forConfig(cfg);
+			temperature = pipeline.evaluate(level, pos, player, true, currentOffset, cfg, breakdown);
+			baseTemperature = breakdown[TemperaturePipeline.Stage.BIOME.ordinal()];
+			providerValidUntil = pipeline.includes(TemperaturePipeline.Stage.PROVIDER)
+					? TemperatureProviders.INSTANCE.validUntil(player)
+					: Long.MAX_VALUE;
+		}
+
+		blockPos = packedPos;
+		generation = cfg.generation;
+		heatVersion = currentHeatVersion;
+		skyVersion = currentSkyVersion;
+		biomeVersion = currentBiomeVersion;
+		rainStep = currentRainStep;
+		flags = currentFlags;
+		modifiers = currentModifiers;
+		phase = currentPhase;
+		seasonOffset = currentOffset;
+		seasonCondensation = currentCondensation;
+		computedAt = gameTime;
+		windowFlipAt = nextWindowFlip(gameTime, cfg.breathCondensationStartTick, cfg.breathCondensationEndTick);
+
+		ActiveDimension.Resolved dimension = ActiveDimension.INSTANCE.get(level, cfg);
+		BreathInputs inputs = new BreathInputs(
+				(currentFlags & FLAG_SPECTATOR) != 0,
+				(currentFlags & FLAG_SLEEPING) != 0,
+				(currentFlags & FLAG_DEAD) != 0,
+				(currentFlags & FLAG_CREATIVE) != 0,
+				(currentFlags & FLAG_UNDERWATER) != 0,
+				false,
+				1.0,
+				dimension.kind(),
+				dimension.visible(),
+				temperature,
+				gameTime % DAY_TICKS,
+				currentPhase,
+				currentCondensation
+		);
+		eligibility = BreathKernel.checkEligibility(inputs, currentModifiers, cfg);
+	}
+
+	private void resetLevel(ClientLevel level) {
+		this.level = level;
+		blockPos = Long.MIN_VALUE;
+		windowFlipAt = Long.MIN_VALUE;
+	}
+
+	private static int flagsOf(Player player) {
+		int f = 0;
+		if (player.isSpectator()) f |= FLAG_SPECTATOR;
+		if (player.isSleeping()) f |= FLAG_SLEEPING;
+		if (player.isDeadOrDying()) f |= FLAG_DEAD;
+		if (player.isCreative()) f |= FLAG_CREATIVE;
+		if (player.isUnderWater()) f |= FLAG_UNDERWATER;
+		return f;
+	}
+
+	/**
+	 * Game time at which the condensation window next opens or closes. The window covers day times
+	 * {@code start..end} inclusive, so it opens at {@code start} and closes at {@code end + 1}.
+	 */
+	private static long nextWindowFlip(long gameTime, long start, long end) {
+		if (start == end) return Long.MAX_VALUE;
+		long dayTime = gameTime % DAY_TICKS;
+		long untilOpen = ticksUntil(dayTime, Math.floorMod(start, DAY_TICKS));
+		long untilClose = ticksUntil(dayTime, Math.floorMod(end + 1, DAY_TICKS));
+		return gameTime + Math.min(untilOpen, untilClose);
+	}
+
+	private static long ticksUntil(long dayTime, long target) {
+		long delta = Math.floorMod(target - dayTime, DAY_TICKS);
+		return delta == 0 ? DAY_TICKS : delta;
+	}
+
+	public static final EligibilityCache INSTANCE = new EligibilityCache();
+}
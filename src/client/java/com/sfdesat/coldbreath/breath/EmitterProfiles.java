@@ -0,0 +1,154 @@
+package com.sfdesat.coldbreath.breath;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.sfdesat.ColdBreathMod;
+import com.sfdesat.coldbreath.sim.EmitterProfile;
+import net.fabricmc.fabric.api.resource.v1.ResourceLoader;
+import net.minecraft.resources.Identifier;
+import net.minecraft.server.packs.PackType;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.minecraft.util.GsonHelper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Optional;
+
+/**
+ * Loads {@code assets/coldbreath/breath_emitters/default.json} on every resource reload and activates it as the
+ * {@link EmitterProfile}; the topmost resource pack providing the file wins. Fields left out keep the built-in
+ * values, and a file that fails to parse falls back to the built-in profile with a warning.
+ */
+public final class EmitterProfiles implements ResourceManagerReloadListener {
+
+	private static final Identifier ID = Identifier.fromNamespaceAndPath(ColdBreathMod.MOD_ID, "breath_emitters");
+	private static final Identifier DEFAULT_PROFILE = Identifier.fromNamespaceAndPath(ColdBreathMod.MOD_ID, "breath_emitters/default.json");
+
+	private String source = "built-in";
+
+	private EmitterProfiles() {}
+
+	public void register() {
+		ResourceLoader.get(PackType.CLIENT_RESOURCES).registerReloader(ID, this);
+	}
+
+	/**
+	 * Pack the active profile was loaded from, for the debug overlay.
+	 */
+	public String source() { return source; }
+
+	@Override
+	public void onResourceManagerReload(ResourceManager manager) {
+		Optional<Resource> resource = manager.getResource(DEFAULT_PROFILE);
+		if (resource.isEmpty()) {
+			activate(EmitterProfile.DEFAULT, "built-in");
+			return;
+		}
+		String pack = resource.get().sourcePackId();
+		try (Reader reader = resource.get().openAsReader()) {
+			activate(parse(GsonHelper.convertToJsonObject(JsonParser.parseReader(reader), "emitter profile")), pack);
+		} catch (IOException | RuntimeException err) {
+			ColdBreathMod.LOGGER.warn("Cold Breath: invalid emitter profile {} from {}; using the built-in one. {}", DEFAULT_PROFILE, pack, err.toString());
+			activate(EmitterProfile.DEFAULT, "built-in");
+		}
+	}
+
+	private void activate(EmitterProfile profile, String source) {
+		this.source = source;
+		EmitterProfile.activate(profile);
+	}
+
+	static EmitterProfile parse(JsonObject json) {
+		EmitterProfile.Builder builder = EmitterProfile.builder();
+		if (json.has("burst_period_ticks")) builder.burstPeriodTicks(GsonHelper.getAsInt(json, "burst_period_ticks"));
+		if (json.has("air")) parseEmitter(builder, EmitterProfile.AIR, GsonHelper.getAsJsonObject(json, "air"));
+		if (json.has("underwater")) parseEmitter(builder, EmitterProfile.UNDERWATER, GsonHelper.getAsJsonObject(json, "underwater"));
+
+		if (json.has("size")) {
+			JsonArray keys = GsonHelper.getAsJsonArray(json, "size");
+			builder.size(keyTimes(keys), keyValues(keys));
+		}
+		if (json.has("alpha")) {
+			JsonArray keys = GsonHelper.getAsJsonArray(json, "alpha");
+			builder.alpha(keyTimes(keys), keyValues(keys));
+		}
+		if (json.has("color")) {
+			JsonArray keys = GsonHelper.getAsJsonArray(json, "color");
+			int[] colors = new int[keys.size()];
+			for (int i = 0; i < colors.length; i++) {
+				colors[i] = parseColor(GsonHelper.getAsString(GsonHelper.convertToJsonObject(keys.get(i), "color key"), "color"));
+			}
+			builder.color(keyTimes(keys), colors);
+		}
+		return builder.build();
+	}
+
+	private static void parseEmitter(EmitterProfile.Builder builder, int kind, JsonObject json) {
+		if (json.has("count")) {
+			JsonElement count = json.get("count");
+			if (count.isJsonArray()) {
+				JsonArray table = count.getAsJsonArray();
+				int[] values = new int[table.size()];
+				for (int i = 0; i < values.length; i++) values[i] = GsonHelper.convertToInt(table.get(i), "count");
+				builder.counts(kind, values);
+			} else {
+				builder.counts(kind, new int[] { GsonHelper.convertToInt(count, "count") });
+			}
+		}
+		if (json.has("spread")) {
+			JsonObject spread = GsonHelper.getAsJsonObject(json, "spread");
+			shape(builder, kind, spread, "horizontal", EmitterProfile.SPREAD_H);
+			shape(builder, kind, spread, "vertical", EmitterProfile.SPREAD_V);
+		}
+		if (json.has("velocity")) {
+			JsonObject velocity = GsonHelper.getAsJsonObject(json, "velocity");
+			shape(builder, kind, velocity, "forward", EmitterProfile.FORWARD_SPEED);
+			shape(builder, kind, velocity, "lift", EmitterProfile.LIFT);
+			shape(builder, kind, velocity, "rise", EmitterProfile.RISE);
+			shape(builder, kind, velocity, "jitter_horizontal", EmitterProfile.JITTER_H);
+			shape(builder, kind, velocity, "jitter_vertical", EmitterProfile.JITTER_V);
+		}
+		if (json.has("offset")) {
+			JsonObject offset = GsonHelper.getAsJsonObject(json, "offset");
+			shape(builder, kind, offset, "forward", EmitterProfile.FORWARD_OFFSET);
+			shape(builder, kind, offset, "down", EmitterProfile.DOWN_OFFSET);
+		}
+	}
+
+	private static void shape(EmitterProfile.Builder builder, int kind, JsonObject json, String key, int field) {
+		if (json.has(key)) builder.shape(kind, field, GsonHelper.getAsDouble(json, key));
+	}
+
+	private static double[] keyTimes(JsonArray keys) {
+		double[] times = new double[keys.size()];
+		for (int i = 0; i < times.length; i++) {
+			times[i] = GsonHelper.getAsDouble(GsonHelper.convertToJsonObject(keys.get(i), "curve key"), "at");
+		}
+		return times;
+	}
+
+	private static double[] keyValues(JsonArray keys) {
+		double[] values = new double[keys.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = GsonHelper.getAsDouble(GsonHelper.convertToJsonObject(keys.get(i), "curve key"), "value");
+		}
+		return values;
+	}
+
+	private static int parseColor(String value) {
+		String hex = value.startsWith("#") ? value.substring(1) : value;
+		if (hex.length() != 6) throw new JsonParseException("colour must be #RRGGBB, got " + value);
+		try {
+			return Integer.parseInt(hex, 16);
+		} catch (NumberFormatException err) {
+			throw new JsonParseException("colour must be #RRGGBB, got " + value);
+		}
+	}
+
+	public static final EmitterProfiles INSTANCE = new EmitterProfiles();
+}
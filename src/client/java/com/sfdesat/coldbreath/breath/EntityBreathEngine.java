@@ -0,0 +1,239 @@
+package com.sfdesat.coldbreath.breath;
+
+import com.sfdesat.coldbreath.sim.BreathDecision;
+import com.sfdesat.coldbreath.sim.BreathKernel;
+import com.sfdesat.coldbreath.sim.BreathRandom;
+import com.sfdesat.coldbreath.sim.BreathSimulation;
+import com.sfdesat.coldbreath.sim.EmitterProfile;
+import com.sfdesat.coldbreath.sim.TimingWheel;
+import com.sfdesat.config.ConfigManager;
+import com.sfdesat.config.EffectiveConfig;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientEntityEvents;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.tags.EntityTypeTags;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.player.Player;
+
+import java.util.Arrays;
+
+/**
+ * Breath state for every tracked entity other than the local player (which stays on {@link BreathController}).
+ * State lives in parallel primitive arrays indexed by a dense slot; entity ids map to slots and removal
+ * swaps the last slot into the hole. Entities enter and leave through the client entity load/unload events,
+ * so the level is never scanned, and breath starts, burst emits and burst ends are driven by a
+ * {@link TimingWheel}, so a tick only touches the entities whose breath is due. Sprint and health blends are
+ * advanced lazily in closed form whenever an entity's breath comes due.
+ */
+public final class EntityBreathEngine {
+
+	private static final int INITIAL_CAPACITY = 32;
+	private static final int NO_SLOT = -1;
+
+	private final Int2IntOpenHashMap slotsById;
+	private int size;
+	private int[] entityIds;
+	private LivingEntity[] entities;
+	private int[] stamps;
+	private long[] nextBreathTick;
+	private long[] breathBurstEndTick;
+	private double[] sprintBlend;
+	private double[] healthBlend;
+	private long[] blendTick;
+	private final TimingWheel wheel;
+	private final TimingWheel.Handler dispatcher;
+	private int nextStamp;
+	private long internalTick;
+	private ClientLevel trackedLevel;
+
+	public EntityBreathEngine() {
+		this.slotsById = new Int2IntOpenHashMap(INITIAL_CAPACITY);
+		this.slotsById.defaultReturnValue(NO_SLOT);
+		this.entityIds = new int[INITIAL_CAPACITY];
+		this.entities = new LivingEntity[INITIAL_CAPACITY];
+		this.stamps = new int[INITIAL_CAPACITY];
+		this.nextBreathTick = new long[INITIAL_CAPACITY];
+		this.breathBurstEndTick = new long[INITIAL_CAPACITY];
+		this.sprintBlend = new double[INITIAL_CAPACITY];
+		this.healthBlend = new double[INITIAL_CAPACITY];
+		this.blendTick = new long[INITIAL_CAPACITY];
+		this.wheel = new TimingWheel(BreathSimulation.WHEEL_BUCKETS);
+		this.dispatcher = this::onEvent;
+	}
+
+	public void register() {
+		ClientEntityEvents.ENTITY_LOAD.register(this::onEntityLoad);
+		ClientEntityEvents.ENTITY_UNLOAD.register(this::onEntityUnload);
+		ClientTickEvents.END_CLIENT_TICK.register(this::onTick);
+	}
+
+	public int trackedCount() { return size; }
+
+	private void onEntityLoad(Entity entity, ClientLevel level) {
+		if (!(entity instanceof LivingEntity living) || !isBreathingCandidate(living)) return;
+		if (level != trackedLevel) {
+			clear();
+			trackedLevel = level;
+		}
+		if (slotsById.containsKey(entity.getId())) return;
+
+		ensureCapacity(size + 1);
+		int slot = size++;
+		int stamp = ++nextStamp;
+		entityIds[slot] = entity.getId();
+		entities[slot] = living;
+		stamps[slot] = stamp;
+		// Stagger the first breath so a crowd loading in at once does not exhale in unison.
+		EffectiveConfig cfg = ConfigManager.effective();
+		nextBreathTick[slot] = internalTick + 1 + BreathKernel.sampleWaitTicks(BreathKernel.plan(0.0, 0.0, cfg), BreathRandom.entitySchedule());
+		breathBurstEndTick[slot] = 0L;
+		sprintBlend[slot] = 0.0;
+		healthBlend[slot] = 0.0;
+		blendTick[slot] = internalTick;
+		slotsById.put(entity.getId(), slot);
+		wheel.schedule(entity.getId(), BreathSimulation.EVENT_BREATH_START, stamp, nextBreathTick[slot]);
+	}
+
+	private void onEntityUnload(Entity entity, ClientLevel level) {
+		if (level != trackedLevel) return;
+		int slot = slotsById.remove(entity.getId());
+		if (slot == NO_SLOT) return;
+
+		int last = --size;
+		if (slot != last) {
+			entityIds[slot] = entityIds[last];
+			entities[slot] = entities[last];
+			stamps[slot] = stamps[last];
+			nextBreathTick[slot] = nextBreathTick[last];
+			breathBurstEndTick[slot] = breathBurstEndTick[last];
+			sprintBlend[slot] = sprintBlend[last];
+			healthBlend[slot] = healthBlend[last];
+			blendTick[slot] = blendTick[last];
+			slotsById.put(entityIds[slot], slot);
+		}
+		entities[last] = null;
+	}
+
+	private void onTick(Minecraft client) {
+		ClientLevel level = client.level;
+		if (level != trackedLevel) {
+			clear();
+			trackedLevel = level;
+		}
+		if (!ConfigManager.effective().enabled) return;
+		if (client.isPaused() || level == null) return;
+		wheel.advance(++internalTick, dispatcher);
+	}
+
+	private void onEvent(int entityId, int kind, int stamp, long now) {
+		int slot = slotsById.get(entityId);
+		// Events for entities that unloaded (or whose id was reused) are dropped here instead of being cancelled.
+		if (slot == NO_SLOT || stamps[slot] != stamp) return;
+
+		Minecraft client = Minecraft.getInstance();
+		ClientLevel level = client.level;
+		EffectiveConfig cfg = ConfigManager.effective();
+		LivingEntity entity = entities[slot];
+		switch (kind) {
+			case BreathSimulation.EVENT_BREATH_START -> startBreath(level, slot, now, cfg);
+			case BreathSimulation.EVENT_BURST_EMIT -> {
+				if (now >= breathBurstEndTick[slot]) return;
+				emit(client, level, entity, entity.isUnderWater(), cfg);
+				int period = EmitterProfile.active().burstPeriodTicks();
+				if (now + period < breathBurstEndTick[slot]) {
+					wheel.schedule(entityId, BreathSimulation.EVENT_BURST_EMIT, stamp, now + period);
+				}
+			}
+			case BreathSimulation.EVENT_BURST_END -> {
+				if (nextBreathTick[slot] <= now) {
+					startBreath(level, slot, now, cfg);
+				} else {
+					wheel.schedule(entityId, BreathSimulation.EVENT_BREATH_START, stamp, nextBreathTick[slot]);
+				}
+			}
+			default -> { }
+		}
+	}
+
+	private void startBreath(ClientLevel level, int slot, long now, EffectiveConfig cfg) {
+		LivingEntity entity = entities[slot];
+		int entityId = entityIds[slot];
+		int stamp = stamps[slot];
+		advanceBlends(slot, entity, now, cfg);
+
+		BreathDecision decision;
+		if (isEnabledFor(entity, cfg)) {
+			decision = BreathKernel.decide(EnvModel.captureInputs(level, entity, cfg), sprintBlend[slot], healthBlend[slot], cfg, BreathRandom.entitySchedule());
+		} else {
+			decision = BreathDecision.skip("disabled", BreathKernel.sampleWaitTicks(BreathKernel.plan(sprintBlend[slot], healthBlend[slot], cfg), BreathRandom.entitySchedule()));
+		}
+
+		nextBreathTick[slot] = now + decision.waitTicks();
+		if (!decision.visible()) {
+			wheel.schedule(entityId, BreathSimulation.EVENT_BREATH_START, stamp, nextBreathTick[slot]);
+			return;
+		}
+
+		breathBurstEndTick[slot] = now + cfg.breathBurstDurationTicks;
+		wheel.schedule(entityId, BreathSimulation.EVENT_BURST_EMIT, stamp, now + 1);
+		wheel.schedule(entityId, BreathSimulation.EVENT_BURST_END, stamp, breathBurstEndTick[slot]);
+	}
+
+	private void advanceBlends(int slot, LivingEntity entity, long now, EffectiveConfig cfg) {
+		long elapsed = now - blendTick[slot];
+		sprintBlend[slot] = BreathKernel.advanceSprint(sprintBlend[slot], entity.isSprinting(), entity.isUnderWater(), 0.0, elapsed, cfg);
+		healthBlend[slot] = BreathKernel.advanceHealth(healthBlend[slot], entity.getHealth() / entity.getMaxHealth(), elapsed, cfg);
+		blendTick[slot] = now;
+	}
+
+	private static void emit(Minecraft client, ClientLevel level, LivingEntity entity, boolean underwater, EffectiveConfig cfg) {
+		double lodScale = BreathLod.particleScale(client, entity.getX(), entity.getEyeY(), entity.getZ(), cfg);
+		if (lodScale <= 0.0) return;
+		if (underwater) {
+			if (cfg.underwaterEnabled) BreathSpawner.spawnUnderwater(client, level, entity, lodScale);
+		} else {
+			BreathSpawner.spawnAir(client, level, entity, cfg, lodScale);
+		}
+	}
+
+	private static boolean isEnabledFor(LivingEntity entity, EffectiveConfig cfg) {
+		return entity instanceof Player ? cfg.otherPlayersBreathEnabled : cfg.mobBreathEnabled;
+	}
+
+	private static boolean isBreathingCandidate(LivingEntity entity) {
+		if (entity instanceof LocalPlayer) return false;
+		if (entity instanceof Player) return true;
+		if (!(entity instanceof Mob)) return false;
+		EntityType<?> type = entity.getType();
+		if (type.is(EntityTypeTags.UNDEAD) || type == EntityType.IRON_GOLEM || type == EntityType.SNOW_GOLEM) return false;
+		return !entity.canBreatheUnderwater();
+	}
+
+	private void clear() {
+		slotsById.clear();
+		wheel.clear();
+		Arrays.fill(entities, 0, size, null);
+		size = 0;
+	}
+
+	private void ensureCapacity(int required) {
+		if (required <= entityIds.length) return;
+		int capacity = Math.max(required, entityIds.length << 1);
+		entityIds = Arrays.copyOf(entityIds, capacity);
+		entities = Arrays.copyOf(entities, capacity);
+		stamps = Arrays.copyOf(stamps, capacity);
+		nextBreathTick = Arrays.copyOf(nextBreathTick, capacity);
+		breathBurstEndTick = Arrays.copyOf(breathBurstEndTick, capacity);
+		sprintBlend = Arrays.copyOf(sprintBlend, capacity);
+		healthBlend = Arrays.copyOf(healthBlend, capacity);
+		blendTick = Arrays.copyOf(blendTick, capacity);
+	}
+
+	public static final EntityBreathEngine INSTANCE = new EntityBreathEngine();
+}
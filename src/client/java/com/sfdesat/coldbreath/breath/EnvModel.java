@@ -1,35 +1,63 @@
 package com.sfdesat.coldbreath.breath;
 
 import com.sfdesat.coldbreath.season.SeasonManager;
-import com.sfdesat.config.ColdBreathConfig;
+import com.sfdesat.coldbreath.season.SeasonPhase;
+import com.sfdesat.coldbreath.sim.BreathInputs;
+import com.sfdesat.coldbreath.sim.BreathKernel;
+import com.sfdesat.coldbreath.sim.DimensionKind;
+import com.sfdesat.coldbreath.sim.Precipitation;
+import com.sfdesat.coldbreath.temperature.TemperaturePipeline;
+import com.sfdesat.config.EffectiveConfig;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.Identifier;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.biome.Biome;
 
+/**
+ * Adapter between the game and {@link BreathKernel}: reads entities and the level into plain {@link BreathInputs}.
+ */
 public final class EnvModel {
 
 	private EnvModel() {}
 
-	public static float computeEffectiveTemperature(ClientLevel level, BlockPos pos, ColdBreathConfig cfg) {
-		Biome biome = level.getBiome(pos).value();
-		float baseTemperature = biome.getBaseTemperature();
-		float temperature = baseTemperature;
-		if (cfg.altitudeAdjustmentEnabled) {
-			int seaLevel = level.getSeaLevel();
-			int altitude = pos.getY();
-			temperature = baseTemperature - (altitude - seaLevel) * (float) cfg.altitudeTemperatureRate;
+	public static float computeEffectiveTemperature(ClientLevel level, LivingEntity entity, EffectiveConfig cfg) {
+		return TemperaturePipeline.forConfig(cfg).evaluate(level, entity.blockPosition(), entity, false,
+				SeasonManager.getTemperatureOffset(), cfg, null);
+	}
+
+	public static float heatAt(ClientLevel level, BlockPos pos, EffectiveConfig cfg) {
+		return HeatSourceIndex.INSTANCE.heatAt(level, pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5, cfg);
+	}
+
+	public static float weatherAt(ClientLevel level, BlockPos pos, EffectiveConfig cfg) {
+		if (!cfg.shelterEnabled && !cfg.weatherEnabled) return 0.0F;
+		if (!level.dimensionType().hasSkyLight()) return 0.0F;
+		boolean sheltered = SkyExposureCache.INSTANCE.isSheltered(level, pos.getX(), pos.getY(), pos.getZ());
+		float rainLevel = level.getRainLevel(1.0F);
+		Precipitation precipitation = Precipitation.NONE;
+		if (!sheltered && cfg.weatherEnabled && rainLevel > 0.0F) {
+			precipitation = switch (level.getBiome(pos).value().getPrecipitationAt(pos, level.getSeaLevel())) {
+				case RAIN -> Precipitation.RAIN;
+				case SNOW -> Precipitation.SNOW;
+				case NONE -> Precipitation.NONE;
+			};
 		}
-		temperature += (float) SeasonManager.getTemperatureOffset();
-		return temperature;
+		return BreathKernel.weatherContribution(sheltered, precipitation, rainLevel, cfg);
 	}
 
-	public static boolean isWithinDayWindow(long dayTime, long start, long end) {
-		if (start == end) return false;
-		return (start <= end) ? (dayTime >= start && dayTime <= end)
-			: (dayTime >= start || dayTime <= end);
+	/**
+	 * Wind speed for breath emitted at a position, in blocks per tick; zero without a sky.
+	 */
+	public static float windSpeedAt(ClientLevel level, double x, double y, double z, EffectiveConfig cfg) {
+		if (!cfg.windEnabled || !level.dimensionType().hasSkyLight()) return 0.0F;
+		int bx = Mth.floor(x);
+		int by = Mth.floor(y);
+		int bz = Mth.floor(z);
+		boolean sheltered = SkyExposureCache.INSTANCE.isSheltered(level, bx, by, bz);
+		return BreathKernel.windSpeed(sheltered, level.getRainLevel(1.0F), level.getThunderLevel(1.0F), by, level.getSeaLevel(), cfg);
 	}
 
 	public static DimensionKind getDimensionKind(ClientLevel level) {
@@ -43,57 +71,34 @@ public final class EnvModel {
 		return DimensionKind.OTHER;
 	}
 
-	public static BreathEligibility checkEligibility(ClientLevel level, Player player, ColdBreathConfig cfg) {
-		if (!cfg.enabled) return BreathEligibility.deny("disabled");
-		if (player.isSpectator()) return BreathEligibility.deny("spectator");
-		if (player.isSleeping()) return BreathEligibility.deny("sleeping");
-		if (player.isDeadOrDying()) return BreathEligibility.deny("dead");
-		if (!cfg.visibleInCreative && player.isCreative()) return BreathEligibility.deny("creative");
-
-		if (player.isUnderWater()) {
-			return cfg.underwaterEnabled
-					? BreathEligibility.allow()
-					: BreathEligibility.deny("underwater");
-		}
-
-		DimensionKind dim = getDimensionKind(level);
-		if (dim == DimensionKind.NETHER && !cfg.visibleInNether) return BreathEligibility.deny("nether hidden");
-		if (dim == DimensionKind.END && !cfg.visibleInEnd) return BreathEligibility.deny("end hidden");
-
-		BlockPos pos = player.blockPosition();
-		float temp = computeEffectiveTemperature(level, pos, cfg);
-		boolean isColdHere = temp <= cfg.alwaysBreathTemperature;
-		if (cfg.alwaysShowBreath || isColdHere) return BreathEligibility.allow();
-
-		if (!cfg.breathCondensationEnabled) return BreathEligibility.deny("condensation off");
-
-		if (!SeasonManager.isBreathCondensationEnabled(true)) {
-			return BreathEligibility.deny("season");
-		}
-
-		long dayTime = level.getGameTime() % 24000L;
-		boolean inWindow = isWithinDayWindow(dayTime, cfg.breathCondensationStartTick, cfg.breathCondensationEndTick);
-		if (!inWindow) return BreathEligibility.deny("condensation window");
-
-		boolean goodTemp = temp > cfg.alwaysBreathTemperature && temp <= cfg.maxBreathCondensationTemperature;
-		return goodTemp ? BreathEligibility.allow() : BreathEligibility.deny("temperature");
-	}
-
-	public static boolean isEligibleNow(ClientLevel level, Player player, ColdBreathConfig cfg) {
-		return checkEligibility(level, player, cfg).allowed();
-	}
-
-	public record BreathEligibility(boolean allowed, String reason) {
-		private static final BreathEligibility ALWAYS = new BreathEligibility(true, null);
-
-		public static BreathEligibility allow() { return ALWAYS; }
-		public static BreathEligibility deny(String reason) { return new BreathEligibility(false, reason); }
-	}
-
-	public enum DimensionKind {
-		OVERWORLD,
-		NETHER,
-		END,
-		OTHER
+	/**
+	 * Inputs for one entity. The temperature pipeline only runs when the kernel would read its result; otherwise the
+	 * temperature is left as {@code NaN}.
+	 */
+	public static BreathInputs captureInputs(ClientLevel level, LivingEntity entity, EffectiveConfig cfg) {
+		boolean spectator = entity.isSpectator();
+		boolean sleeping = entity.isSleeping();
+		boolean dead = entity.isDeadOrDying();
+		boolean creative = entity instanceof Player player && player.isCreative();
+		boolean underwater = entity.isUnderWater();
+		ActiveDimension.Resolved dimension = ActiveDimension.INSTANCE.get(level, cfg);
+		boolean needsTemperature = cfg.enabled && !spectator && !sleeping && !dead
+				&& (cfg.visibleInCreative || !creative) && !underwater && dimension.visible();
+		SeasonPhase phase = SeasonManager.getCurrentPhase();
+		return new BreathInputs(
+				spectator,
+				sleeping,
+				dead,
+				creative,
+				underwater,
+				entity.isSprinting(),
+				entity.getHealth() / entity.getMaxHealth(),
+				dimension.kind(),
+				dimension.visible(),
+				needsTemperature ? computeEffectiveTemperature(level, entity, cfg) : Float.NaN,
+				level.getGameTime() % 24000L,
+				phase,
+				BreathKernel.seasonCondensation(phase, SeasonManager.getCycleProgress(), cfg)
+		);
 	}
 }
@@ -0,0 +1,242 @@
+package com.sfdesat.coldbreath.breath;
+
+import com.sfdesat.coldbreath.sim.BreathKernel;
+import com.sfdesat.config.EffectiveConfig;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientChunkEvents;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Client-side index of heat-emitting blocks per chunk section. Loaded chunks are queued and scanned a few per
+ * tick (sections whose palette holds no heat block are skipped without reading a block), and block updates keep
+ * the index current through {@code ClientLevelMixin}, so nothing ever scans a cube around an emitter.
+ */
+public final class HeatSourceIndex {
+
+	private static final int SCAN_CHUNKS_PER_TICK = 4;
+
+	private static final byte KIND_NONE = 0;
+	private static final byte KIND_LAVA = 1;
+	private static final byte KIND_FIRE = 2;
+	private static final byte KIND_CAMPFIRE = 3;
+	private static final byte KIND_FURNACE = 4;
+	private static final byte KIND_MAGMA = 5;
+	// Warmth at the source, in biome temperature units, indexed by kind.
+	private static final float[] HEAT_BY_KIND = { 0.0F, 1.0F, 0.8F, 0.6F, 0.4F, 0.3F };
+
+	private final Long2ObjectOpenHashMap<Section> sections = new Long2ObjectOpenHashMap<>();
+	private final ArrayDeque<LevelChunk> pendingChunks = new ArrayDeque<>();
+	private ClientLevel level;
+	private long version;
+
+	private HeatSourceIndex() {}
+
+	public void register() {
+		ClientChunkEvents.CHUNK_LOAD.register(this::onChunkLoad);
+		ClientChunkEvents.CHUNK_UNLOAD.register(this::onChunkUnload);
+		ClientTickEvents.END_CLIENT_TICK.register(this::onTick);
+	}
+
+	/**
+	 * Bumped whenever a heat source appears, disappears or changes, so callers can key caches on it.
+	 */
+	public long version() { return version; }
+
+	public int sectionCount() { return sections.size(); }
+
+	/**
+	 * Warmth contributed by the strongest heat source near the given position.
+	 */
+	public float heatAt(ClientLevel level, double x, double y, double z, EffectiveConfig cfg) {
+		if (!cfg.heatSourcesEnabled || level != this.level || sections.isEmpty()) return 0.0F;
+		double radius = cfg.heatSourceRadius;
+		int minSx = SectionPos.blockToSectionCoord(x - radius);
+		int maxSx = SectionPos.blockToSectionCoord(x + radius);
+		int minSy = SectionPos.blockToSectionCoord(y - radius);
+		int maxSy = SectionPos.blockToSectionCoord(y + radius);
+		int minSz = SectionPos.blockToSectionCoord(z - radius);
+		int maxSz = SectionPos.blockToSectionCoord(z + radius);
+
+		float best = 0.0F;
+		for (int sx = minSx; sx <= maxSx; sx++) {
+			for (int sy = minSy; sy <= maxSy; sy++) {
+				for (int sz = minSz; sz <= maxSz; sz++) {
+					Section section = sections.get(SectionPos.asLong(sx, sy, sz));
+					if (section == null) continue;
+					int baseX = SectionPos.sectionToBlockCoord(sx);
+					int baseY = SectionPos.sectionToBlockCoord(sy);
+					int baseZ = SectionPos.sectionToBlockCoord(sz);
+					for (int i = 0; i < section.count; i++) {
+						int local = section.positions[i];
+						double dx = baseX + (local & 15) + 0.5 - x;
+						double dy = baseY + ((local >> 8) & 15) + 0.5 - y;
+						double dz = baseZ + ((local >> 4) & 15) + 0.5 - z;
+						float heat = BreathKernel.heatContribution(dx * dx + dy * dy + dz * dz, HEAT_BY_KIND[section.kinds[i]], cfg);
+						if (heat > best) best = heat;
+					}
+				}
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Called from {@code ClientLevelMixin} whenever a block changes on the client.
+	 */
+	public void onBlockChanged(ClientLevel level, BlockPos pos, BlockState oldState, BlockState newState) {
+		if (level != this.level) return;
+		byte oldKind = kindOf(oldState);
+		byte newKind = kindOf(newState);
+		if (oldKind == newKind) return;
+
+		long key = SectionPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getY()),
+				SectionPos.blockToSectionCoord(pos.getZ()));
+		int local = localIndex(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+		Section section = sections.get(key);
+		if (newKind == KIND_NONE) {
+			if (section != null && section.remove(local) && section.count == 0) sections.remove(key);
+		} else {
+			if (section == null) {
+				section = new Section();
+				sections.put(key, section);
+			}
+			section.set(local, newKind);
+		}
+		version++;
+	}
+
+	private void onChunkLoad(ClientLevel level, LevelChunk chunk) {
+		if (level != this.level) reset(level);
+		pendingChunks.add(chunk);
+	}
+
+	private void onChunkUnload(ClientLevel level, LevelChunk chunk) {
+		if (level != this.level) return;
+		pendingChunks.remove(chunk);
+		int sx = SectionPos.blockToSectionCoord(chunk.getPos().getMinBlockX());
+		int sz = SectionPos.blockToSectionCoord(chunk.getPos().getMinBlockZ());
+		boolean removed = false;
+		for (int sy = level.getMinSectionY(); sy <= level.getMaxSectionY(); sy++) {
+			removed |= sections.remove(SectionPos.asLong(sx, sy, sz)) != null;
+		}
+		if (removed) version++;
+	}
+
+	private void onTick(Minecraft client) {
+		if (client.level != level) {
+			reset(client.level);
+			return;
+		}
+		for (int i = 0; i < SCAN_CHUNKS_PER_TICK && !pendingChunks.isEmpty(); i++) {
+			scan(pendingChunks.poll());
+		}
+	}
+
+	private void scan(LevelChunk chunk) {
+		int sx = SectionPos.blockToSectionCoord(chunk.getPos().getMinBlockX());
+		int sz = SectionPos.blockToSectionCoord(chunk.getPos().getMinBlockZ());
+		LevelChunkSection[] chunkSections = chunk.getSections();
+		for (int index = 0; index < chunkSections.length; index++) {
+			long key = SectionPos.asLong(sx, chunk.getSectionYFromSectionIndex(index), sz);
+			Section previous = sections.remove(key);
+			LevelChunkSection chunkSection = chunkSections[index];
+			Section found = null;
+			if (!chunkSection.hasOnlyAir() && chunkSection.maybeHas(HeatSourceIndex::isHeatBlock)) {
+				for (int local = 0; local < 4096; local++) {
+					BlockState state = chunkSection.getBlockState(local & 15, (local >> 8) & 15, (local >> 4) & 15);
+					byte kind = kindOf(state);
+					if (kind == KIND_NONE) continue;
+					if (found == null) found = new Section();
+					found.set(local, kind);
+				}
+			}
+			if (found != null) sections.put(key, found);
+			if (found != null || previous != null) version++;
+		}
+	}
+
+	private void reset(ClientLevel level) {
+		this.level = level;
+		sections.clear();
+		sections.trim();
+		pendingChunks.clear();
+		version++;
+	}
+
+	private static int localIndex(int x, int y, int z) {
+		return (y << 8) | (z << 4) | x;
+	}
+
+	private static boolean isHeatBlock(BlockState state) {
+		Block block = state.getBlock();
+		return block == Blocks.LAVA || block == Blocks.FIRE || block == Blocks.SOUL_FIRE || block == Blocks.MAGMA_BLOCK
+				|| block == Blocks.CAMPFIRE || block == Blocks.SOUL_CAMPFIRE
+				|| block == Blocks.FURNACE || block == Blocks.BLAST_FURNACE || block == Blocks.SMOKER;
+	}
+
+	private static byte kindOf(BlockState state) {
+		Block block = state.getBlock();
+		if (block == Blocks.LAVA) return KIND_LAVA;
+		if (block == Blocks.FIRE || block == Blocks.SOUL_FIRE) return KIND_FIRE;
+		if (block == Blocks.MAGMA_BLOCK) return KIND_MAGMA;
+		if (block == Blocks.CAMPFIRE || block == Blocks.SOUL_CAMPFIRE) {
+			return state.getValue(BlockStateProperties.LIT) ? KIND_CAMPFIRE : KIND_NONE;
+		}
+		if (block == Blocks.FURNACE || block == Blocks.BLAST_FURNACE || block == Blocks.SMOKER) {
+			return state.getValue(BlockStateProperties.LIT) ? KIND_FURNACE : KIND_NONE;
+		}
+		return KIND_NONE;
+	}
+
+	/**
+	 * Heat blocks of one section as parallel arrays of packed local positions (y, z, x nibbles) and kinds.
+	 */
+	private static final class Section {
+		private short[] positions = new short[4];
+		private byte[] kinds = new byte[4];
+		private int count;
+
+		private void set(int local, byte kind) {
+			for (int i = 0; i < count; i++) {
+				if (positions[i] == local) {
+					kinds[i] = kind;
+					return;
+				}
+			}
+			if (count == positions.length) {
+				positions = Arrays.copyOf(positions, count * 2);
+				kinds = Arrays.copyOf(kinds, count * 2);
+			}
+			positions[count] = (short) local;
+			kinds[count] = kind;
+			count++;
+		}
+
+		private boolean remove(int local) {
+			for (int i = 0; i < count; i++) {
+				if (positions[i] == local) {
+					count--;
+					positions[i] = positions[count];
+					kinds[i] = kinds[count];
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	public static final HeatSourceIndex INSTANCE = new HeatSourceIndex();
+}
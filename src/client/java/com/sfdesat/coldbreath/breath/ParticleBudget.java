@@ -0,0 +1,103 @@
+package com.sfdesat.coldbreath.breath;
+
+import com.sfdesat.config.ConfigManager;
+import com.sfdesat.config.EffectiveConfig;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+
+import java.util.Arrays;
+
+/**
+ * Global cap on breath particles, applied on top of {@link BreathLod}. Once per tick it compares a smoothed frame
+ * time and the number of breath particles spawned within a particle lifetime against the configured limits: over
+ * either limit the scale drops by a tenth every half second, with headroom on both it recovers by a hundredth per
+ * tick, so the effect backs off within seconds and comes back over several. The frame rate only updates once a
+ * second, hence the back-off interval.
+ */
+public final class ParticleBudget {
+
+	// Longest breath particle life in ticks; spawns older than this are assumed gone.
+	private static final int LIVE_WINDOW = 40;
+	private static final double MIN_SCALE = 0.1;
+	private static final double BACK_OFF = 0.9;
+	private static final int BACK_OFF_INTERVAL = 10;
+	private static final double RECOVER_STEP = 0.01;
+	private static final double FRAME_SMOOTHING = 0.1;
+	private static final double HEADROOM = 0.85;
+
+	private final int[] spawnedPerTick = new int[LIVE_WINDOW];
+	private int cursor;
+	private int live;
+	private double frameMillis = Double.NaN;
+	private double scale = 1.0;
+	private int backOffCooldown;
+	private ClientLevel level;
+
+	private ParticleBudget() {}
+
+	public void register() {
+		ClientTickEvents.END_CLIENT_TICK.register(this::onTick);
+	}
+
+	/**
+	 * Multiplier for particle counts: 1 when there is headroom, down to {@value #MIN_SCALE} under load.
+	 */
+	public double scale() {
+		return ConfigManager.effective().particleBudgetEnabled ? scale : 1.0;
+	}
+
+	public void onSpawned(int count) {
+		spawnedPerTick[cursor] += count;
+		live += count;
+	}
+
+	public int liveEstimate() { return live; }
+
+	public double frameMillis() { return frameMillis; }
+
+	private void onTick(Minecraft client) {
+		if (client.level != level) {
+			level = client.level;
+			reset();
+		}
+		if (client.isPaused()) return;
+
+		cursor = (cursor + 1) % LIVE_WINDOW;
+		live -= spawnedPerTick[cursor];
+		spawnedPerTick[cursor] = 0;
+
+		int fps = client.getFps();
+		if (fps > 0) {
+			double sample = 1000.0 / fps;
+			frameMillis = Double.isNaN(frameMillis) ? sample : frameMillis + (sample - frameMillis) * FRAME_SMOOTHING;
+		}
+
+		EffectiveConfig cfg = ConfigManager.effective();
+		if (!cfg.particleBudgetEnabled) {
+			scale = 1.0;
+			return;
+		}
+		boolean slowFrames = !Double.isNaN(frameMillis) && frameMillis > cfg.particleBudgetFrameMillis;
+		boolean crowded = live > cfg.particleBudgetMaxLive;
+		if (backOffCooldown > 0) backOffCooldown--;
+		if (slowFrames || crowded) {
+			if (backOffCooldown == 0) {
+				scale = Math.max(MIN_SCALE, scale * BACK_OFF);
+				backOffCooldown = BACK_OFF_INTERVAL;
+			}
+		} else if (scale < 1.0 && (Double.isNaN(frameMillis) || frameMillis < cfg.particleBudgetFrameMillis * HEADROOM)
+				&& live < cfg.particleBudgetMaxLive * HEADROOM) {
+			scale = Math.min(1.0, scale + RECOVER_STEP);
+		}
+	}
+
+	private void reset() {
+		Arrays.fill(spawnedPerTick, 0);
+		live = 0;
+		scale = 1.0;
+		backOffCooldown = 0;
+	}
+
+	public static final ParticleBudget INSTANCE = new ParticleBudget();
+}
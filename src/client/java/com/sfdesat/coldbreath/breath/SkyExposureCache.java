@@ -0,0 +1,112 @@
+package com.sfdesat.coldbreath.breath;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientChunkEvents;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.Heightmap;
+
+/**
+ * Per-column sky exposure: the lowest Y that is open to the sky (the top of the motion-blocking heightmap, which is
+ * also where rain stops), one {@code int[256]} per loaded chunk. Copied when a chunk loads, patched from block
+ * updates through {@code ClientLevelMixin} and dropped when the chunk unloads, so a shelter check is one array
+ * read instead of a heightmap query or raycast.
+ */
+public final class SkyExposureCache {
+
+	private static final int COLUMNS_PER_CHUNK = 256;
+	private static final int MAX_FALLBACK_CHUNKS = 1024;
+
+	private final Long2ObjectOpenHashMap<int[]> chunks = new Long2ObjectOpenHashMap<>();
+	// Chunks answered from the level's fallback before they were cached; only their arrival can change an answer.
+	private final LongOpenHashSet fallbackChunks = new LongOpenHashSet();
+	private ClientLevel level;
+	private long version;
+
+	private SkyExposureCache() {}
+
+	public void register() {
+		ClientChunkEvents.CHUNK_LOAD.register(this::onChunkLoad);
+		ClientChunkEvents.CHUNK_UNLOAD.register(this::onChunkUnload);
+	}
+
+	/**
+	 * Bumped whenever an exposure height that was handed out may have changed: a cached column was patched, or a
+	 * chunk loaded after being queried without it. Loading chunks nobody asked about leaves it alone.
+	 */
+	public long version() { return version; }
+
+	/**
+	 * True if the block at {@code y} has something above it that blocks the sky.
+	 */
+	public boolean isSheltered(ClientLevel level, int x, int y, int z) {
+		return y < exposedFrom(level, x, z);
+	}
+
+	public int exposedFrom(ClientLevel level, int x, int z) {
+		if (level != this.level) reset(level);
+		long key = ChunkPos.asLong(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(z));
+		int[] columns = chunks.get(key);
+		if (columns == null) {
+			if (fallbackChunks.size() >= MAX_FALLBACK_CHUNKS) {
+				// Forgetting which chunks were queried would hide their arrival; treat everything as changed instead.
+				fallbackChunks.clear();
+				version++;
+			}
+			fallbackChunks.add(key);
+			return level.getHeight(Heightmap.Types.MOTION_BLOCKING, x, z);
+		}
+		return columns[columnIndex(x, z)];
+	}
+
+	/**
+	 * Called from {@code ClientLevelMixin} after a block changed; the chunk's heightmap is already updated by then.
+	 */
+	public void onBlockChanged(ClientLevel level, BlockPos pos) {
+		if (level != this.level) return;
+		int[] columns = chunks.get(ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ())));
+		if (columns == null) return;
+		int index = columnIndex(pos.getX(), pos.getZ());
+		int height = level.getHeight(Heightmap.Types.MOTION_BLOCKING, pos.getX(), pos.getZ());
+		if (columns[index] != height) {
+			columns[index] = height;
+			version++;
+		}
+	}
+
+	private void onChunkLoad(ClientLevel level, LevelChunk chunk) {
+		if (level != this.level) reset(level);
+		int[] columns = new int[COLUMNS_PER_CHUNK];
+		for (int z = 0; z < 16; z++) {
+			for (int x = 0; x < 16; x++) {
+				columns[(z << 4) | x] = chunk.getHeight(Heightmap.Types.MOTION_BLOCKING, x, z) + 1;
+			}
+		}
+		long key = chunk.getPos().toLong();
+		chunks.put(key, columns);
+		if (fallbackChunks.remove(key)) version++;
+	}
+
+	private void onChunkUnload(ClientLevel level, LevelChunk chunk) {
+		if (level != this.level) return;
+		chunks.remove(chunk.getPos().toLong());
+	}
+
+	private void reset(ClientLevel level) {
+		this.level = level;
+		chunks.clear();
+		chunks.trim();
+		fallbackChunks.clear();
+		version++;
+	}
+
+	private static int columnIndex(int x, int z) {
+		return ((z & 15) << 4) | (x & 15);
+	}
+
+	public static final SkyExposureCache INSTANCE = new SkyExposureCache();
+}
@@ -0,0 +1,78 @@
+package com.sfdesat.coldbreath.breath;
+
+import com.sfdesat.coldbreath.sim.StatusModifiers;
+import com.sfdesat.config.EffectiveConfig;
+import net.minecraft.core.Holder;
+import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.entity.LivingEntity;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Active breathing-relevant status effects of the local player. The set only changes when {@code LivingEntityMixin}
+ * reports an effect being added, updated or removed; the combined {@link StatusModifiers} are rebuilt from the
+ * config's effect mapping on those changes and when the config is replaced, never by polling active effects.
+ */
+public final class StatusEffectTracker {
+
+	private final Set<String> activeEffects = new HashSet<>();
+	private LivingEntity tracked;
+	private long generation = -1L;
+	private StatusModifiers combined = StatusModifiers.NONE;
+
+	private StatusEffectTracker() {}
+
+	public StatusModifiers current(LivingEntity player, EffectiveConfig cfg) {
+		if (player != tracked) {
+			// New player instance (join, respawn, dimension change): take its effects once, then follow events.
+			tracked = player;
+			activeEffects.clear();
+			for (MobEffectInstance instance : player.getActiveEffects()) {
+				String id = idOf(instance.getEffect());
+				if (id != null) activeEffects.add(id);
+			}
+			generation = -1L;
+		}
+		if (cfg.generation != generation) {
+			generation = cfg.generation;
+			recombine(cfg);
+		}
+		return combined;
+	}
+
+	public Set<String> activeEffects() { return Set.copyOf(activeEffects); }
+
+	public void onEffectAdded(LivingEntity entity, MobEffectInstance instance) {
+		if (entity != tracked) return;
+		String id = idOf(instance.getEffect());
+		if (id != null && activeEffects.add(id)) generation = -1L;
+	}
+
+	public void onEffectsRemoved(LivingEntity entity, Collection<MobEffectInstance> instances) {
+		if (entity != tracked) return;
+		for (MobEffectInstance instance : instances) {
+			String id = idOf(instance.getEffect());
+			if (id != null && activeEffects.remove(id)) generation = -1L;
+		}
+	}
+
+	private void recombine(EffectiveConfig cfg) {
+		StatusModifiers next = StatusModifiers.NONE;
+		if (cfg.statusEffectsEnabled) {
+			for (String id : activeEffects) {
+				StatusModifiers modifiers = cfg.statusEffectModifier(id);
+				if (modifiers != null) next = next.combine(modifiers);
+			}
+		}
+		combined = next;
+	}
+
+	private static String idOf(Holder<MobEffect> effect) {
+		return effect.unwrapKey().map(key -> key.identifier().toString()).orElse(null);
+	}
+
+	public static final StatusEffectTracker INSTANCE = new StatusEffectTracker();
+}
@@ -0,0 +1,104 @@
+package com.sfdesat.coldbreath.breath;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientChunkEvents;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.QuartPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+import java.util.Arrays;
+
+/**
+ * Client-side cache of biome base temperatures, one {@code float[64]} per chunk section at the game's 4x4x4 biome
+ * (quart) resolution, filled lazily. Lookups read the stored noise biome of the cell ({@code getNoiseBiome}) rather
+ * than {@code getBiome}, which jitters block positions across cell borders; a temperature can therefore differ from
+ * {@code getBiome} within a couple of blocks of a biome edge, in exchange for one entry per cell. Only the biome part
+ * is cached; altitude and season adjustments are applied by the caller, so a season change never flushes it.
+ * Sections are evicted when their chunk loads (lookups made before it arrived hold the fallback biome) or unloads,
+ * and the whole cache is dropped on level change.
+ */
+public final class TemperatureCache {
+
+	private static final int CELLS_PER_SECTION = 64;
+
+	private final Long2ObjectOpenHashMap<float[]> sections = new Long2ObjectOpenHashMap<>();
+	private ClientLevel level;
+	// Last section touched; breath lookups cluster heavily around a few entities.
+	private long lastKey = Long.MIN_VALUE;
+	private float[] lastCells;
+	private long version;
+
+	private TemperatureCache() {}
+
+	public void register() {
+		ClientChunkEvents.CHUNK_LOAD.register(this::dropChunk);
+		ClientChunkEvents.CHUNK_UNLOAD.register(this::dropChunk);
+	}
+
+	/**
+	 * Base temperature of the biome containing the given block.
+	 */
+	public float baseTemperature(ClientLevel level, int x, int y, int z) {
+		if (level != this.level) reset(level);
+
+		long key = SectionPos.asLong(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(y),
+				SectionPos.blockToSectionCoord(z));
+		float[] cells;
+		if (key == lastKey) {
+			cells = lastCells;
+		} else {
+			cells = sections.get(key);
+			if (cells == null) {
+				cells = new float[CELLS_PER_SECTION];
+				Arrays.fill(cells, Float.NaN);
+				sections.put(key, cells);
+			}
+			lastKey = key;
+			lastCells = cells;
+		}
+
+		int qx = QuartPos.fromBlock(x);
+		int qy = QuartPos.fromBlock(y);
+		int qz = QuartPos.fromBlock(z);
+		int index = ((qy & 3) << 4) | ((qz & 3) << 2) | (qx & 3);
+		float value = cells[index];
+		if (Float.isNaN(value)) {
+			value = level.getNoiseBiome(qx, qy, qz).value().getBaseTemperature();
+			cells[index] = value;
+		}
+		return value;
+	}
+
+	public int size() { return sections.size(); }
+
+	/**
+	 * Bumped whenever cached sections are dropped, so callers holding temperatures read from them know to re-read.
+	 */
+	public long version() { return version; }
+
+	private void dropChunk(ClientLevel level, LevelChunk chunk) {
+		if (level != this.level || sections.isEmpty()) return;
+		int sx = SectionPos.blockToSectionCoord(chunk.getPos().getMinBlockX());
+		int sz = SectionPos.blockToSectionCoord(chunk.getPos().getMinBlockZ());
+		boolean dropped = false;
+		for (int sy = level.getMinSectionY(); sy <= level.getMaxSectionY(); sy++) {
+			dropped |= sections.remove(SectionPos.asLong(sx, sy, sz)) != null;
+		}
+		if (!dropped) return;
+		version++;
+		lastKey = Long.MIN_VALUE;
+		lastCells = null;
+	}
+
+	private void reset(ClientLevel level) {
+		this.level = level;
+		sections.clear();
+		sections.trim();
+		version++;
+		lastKey = Long.MIN_VALUE;
+		lastCells = null;
+	}
+
+	public static final TemperatureCache INSTANCE = new TemperatureCache();
+}
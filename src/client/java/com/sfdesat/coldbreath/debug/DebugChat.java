@@ -1,11 +1,16 @@
 package com.sfdesat.coldbreath.debug;
 
+import com.mojang.brigadier.arguments.LongArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.context.CommandContext;
+import com.sfdesat.ColdBreathMod;
+import com.sfdesat.coldbreath.breath.BreathController;
 import com.sfdesat.coldbreath.debug.DebugManager.CategoryDescriptor;
 import com.sfdesat.coldbreath.debug.DebugManager.DebugCategory;
 import com.sfdesat.coldbreath.debug.DebugManager.DebugLine;
 import com.sfdesat.coldbreath.debug.DebugManager.DebugSnapshot;
+import com.sfdesat.coldbreath.sim.BreathTrace;
+import com.sfdesat.coldbreath.sim.TraceReplay;
 import com.sfdesat.config.ConfigManager;
 import net.fabricmc.fabric.api.client.command.v2.ClientCommands;
 import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
@@ -15,11 +20,16 @@ import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.network.chat.Style;
 import net.minecraft.network.chat.TextColor;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Locale;
 import java.util.Optional;
 
 public final class DebugChat {
 
+    private static final Path TRACE_DIR = Path.of(ColdBreathMod.MOD_ID, "traces");
+    private static final String TRACE_EXTENSION = ".cbtrace";
+
     private final DebugManager manager;
 
     public DebugChat(DebugManager manager) {
@@ -38,6 +48,21 @@ public final class DebugChat {
                                 .then(ClientCommands.argument("category", StringArgumentType.greedyString())
                                         .executes(this::printCategory))
                         )
+                        .then(ClientCommands.literal("trace")
+                                .then(ClientCommands.literal("start")
+                                        .executes(ctx -> startTrace(ctx.getSource(), System.nanoTime()))
+                                        .then(ClientCommands.argument("seed", LongArgumentType.longArg())
+                                                .executes(ctx -> startTrace(ctx.getSource(), LongArgumentType.getLong(ctx, "seed")))))
+                                .then(ClientCommands.literal("stop")
+                                        .then(ClientCommands.argument("name", StringArgumentType.word())
+                                                .executes(this::stopTrace)))
+                                .then(ClientCommands.literal("replay")
+                                        .then(ClientCommands.argument("name", StringArgumentType.word())
+                                                .executes(this::replayTrace)))
+                                .then(ClientCommands.literal("play")
+                                        .then(ClientCommands.argument("name", StringArgumentType.word())
+                                                .executes(this::playTrace)))
+                        )
         ));
     }
 
@@ -47,6 +72,10 @@ public final class DebugChat {
         source.sendFeedback(Component.literal("/coldbreath help - Show this help"));
         source.sendFeedback(Component.literal("/coldbreath print all - Print all debug information"));
         source.sendFeedback(Component.literal("/coldbreath print <category> - Print a single debug category"));
+        source.sendFeedback(Component.literal("/coldbreath trace start [seed] - Reseed and start recording breath inputs"));
+        source.sendFeedback(Component.literal("/coldbreath trace stop <name> - Stop recording and save the trace"));
+        source.sendFeedback(Component.literal("/coldbreath trace replay <name> - Replay a trace headless and report timing"));
+        source.sendFeedback(Component.literal("/coldbreath trace play <name> - Play a trace back in game"));
 
         source.sendFeedback(Component.literal("Available categories:"));
         for (CategoryDescriptor descriptor : manager.categoryDescriptors()) {
@@ -100,6 +129,74 @@ public final class DebugChat {
         return 1;
     }
 
+    private int startTrace(FabricClientCommandSource source, long seed) {
+        if (!ensureCommandsEnabled(source)) return 0;
+        BreathController.INSTANCE.startRecording(seed);
+        source.sendFeedback(Component.literal("[Cold Breath] Recording breath trace with seed " + seed + "."));
+        return 1;
+    }
+
+    private int stopTrace(CommandContext<FabricClientCommandSource> ctx) {
+        FabricClientCommandSource source = ctx.getSource();
+        if (!ensureCommandsEnabled(source)) return 0;
+        BreathTrace trace = BreathController.INSTANCE.stopRecording();
+        if (trace == null) {
+            source.sendError(Component.literal("No Cold Breath trace is being recorded."));
+            return 0;
+        }
+        Path path = tracePath(StringArgumentType.getString(ctx, "name"));
+        try {
+            trace.write(path);
+        } catch (IOException e) {
+            ColdBreathMod.LOGGER.warn("Failed to save breath trace", e);
+            source.sendError(Component.literal("Failed to save trace: " + e.getMessage()));
+            return 0;
+        }
+        source.sendFeedback(Component.literal("[Cold Breath] Saved " + trace.size() + " ticks, " + trace.breathCount() + " breaths to " + path + "."));
+        return 1;
+    }
+
+    private int replayTrace(CommandContext<FabricClientCommandSource> ctx) {
+        FabricClientCommandSource source = ctx.getSource();
+        if (!ensureCommandsEnabled(source)) return 0;
+        BreathTrace trace = loadTrace(source, StringArgumentType.getString(ctx, "name"));
+        if (trace == null) return 0;
+        TraceReplay.Result result = TraceReplay.run(trace, ConfigManager.effective());
+        source.sendFeedback(Component.literal(String.format(Locale.ROOT,
+                "[Cold Breath] Replayed %d ticks in %.2f ms: %d breaths (%d visible), %d emits",
+                result.frames(), result.nanos() / 1_000_000.0, result.breaths(), result.visibleBreaths(), result.emits())));
+        if (result.matched()) {
+            source.sendFeedback(Component.literal("[Cold Breath] Replay matched the recording."));
+        } else {
+            source.sendFeedback(Component.literal("[Cold Breath] Replay diverged from the recording at breath " + result.divergence() + "."));
+        }
+        return 1;
+    }
+
+    private int playTrace(CommandContext<FabricClientCommandSource> ctx) {
+        FabricClientCommandSource source = ctx.getSource();
+        if (!ensureCommandsEnabled(source)) return 0;
+        BreathTrace trace = loadTrace(source, StringArgumentType.getString(ctx, "name"));
+        if (trace == null) return 0;
+        BreathController.INSTANCE.startReplay(trace);
+        source.sendFeedback(Component.literal("[Cold Breath] Playing back " + trace.size() + " ticks."));
+        return 1;
+    }
+
+    private BreathTrace loadTrace(FabricClientCommandSource source, String name) {
+        Path path = tracePath(name);
+        try {
+            return BreathTrace.read(path);
+        } catch (IOException e) {
+            source.sendError(Component.literal("Failed to load trace " + path + ": " + e.getMessage()));
+            return null;
+        }
+    }
+
+    private static Path tracePath(String name) {
+        return TRACE_DIR.resolve(name + TRACE_EXTENSION);
+    }
+
     private Component toColoredText(DebugLine line) {
         MutableComponent text = Component.literal(line.text());
         int rgb = line.color() & 0xFFFFFF;
@@ -108,7 +205,7 @@ public final class DebugChat {
     }
 
     private boolean ensureCommandsEnabled(FabricClientCommandSource source) {
-        if (ConfigManager.get().debugCommandsEnabled) return true;
+        if (ConfigManager.effective().debugCommandsEnabled) return true;
         source.sendError(Component.literal("Cold Breath debug commands are disabled in the config."));
         return false;
     }
@@ -3,8 +3,8 @@ package com.sfdesat.coldbreath.debug;
 import com.sfdesat.ColdBreathMod;
 import com.sfdesat.coldbreath.debug.DebugManager.DebugLine;
 import com.sfdesat.coldbreath.debug.DebugManager.DebugSnapshot;
-import com.sfdesat.config.ColdBreathConfig;
 import com.sfdesat.config.ConfigManager;
+import com.sfdesat.config.EffectiveConfig;
 import net.fabricmc.fabric.api.client.rendering.v1.hud.HudElementRegistry;
 import net.fabricmc.fabric.api.client.rendering.v1.hud.VanillaHudElements;
 import net.minecraft.client.DeltaTracker;
@@ -35,7 +35,7 @@ public final class DebugHud {
     }
 
     private void extractRenderState(GuiGraphicsExtractor graphics, DeltaTracker deltaTracker) {
-        ColdBreathConfig cfg = ConfigManager.get();
+        EffectiveConfig cfg = ConfigManager.effective();
         Minecraft client = Minecraft.getInstance();
         if (client == null) return;
 
@@ -1,13 +1,20 @@
 package com.sfdesat.coldbreath.debug;
 
-import com.sfdesat.coldbreath.breath.BreathController;
-import com.sfdesat.coldbreath.breath.EnvModel;
-import com.sfdesat.coldbreath.breath.StateBlends;
+import com.sfdesat.coldbreath.breath.ActiveDimension;
+import com.sfdesat.coldbreath.breath.EligibilityCache;
+import com.sfdesat.coldbreath.breath.EmitterProfiles;
+import com.sfdesat.coldbreath.breath.ParticleBudget;
+import com.sfdesat.coldbreath.particle.BreathParticle;
 import com.sfdesat.coldbreath.season.SeasonDetector;
 import com.sfdesat.coldbreath.season.SeasonManager;
 import com.sfdesat.coldbreath.season.SeasonPhase;
-import com.sfdesat.config.ColdBreathConfig;
+import com.sfdesat.coldbreath.sim.BlendState;
+import com.sfdesat.coldbreath.sim.BreathEligibility;
+import com.sfdesat.coldbreath.sim.BreathKernel;
+import com.sfdesat.coldbreath.sim.IntervalPlan;
+import com.sfdesat.coldbreath.temperature.TemperaturePipeline;
 import com.sfdesat.config.ConfigManager;
+import com.sfdesat.config.EffectiveConfig;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.BlockPos;
@@ -20,6 +27,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public final class DebugManager {
 
@@ -28,20 +36,23 @@ public final class DebugManager {
             new CategoryDescriptor("interval", "Breathing Interval", List.of()),
             new CategoryDescriptor("interval_range", "Interval Range", List.of("range", "minmax")),
             new CategoryDescriptor("temperature", "Temperature", List.of("temp")),
+            new CategoryDescriptor("temperature_stages", "Temperature Stages", List.of("stages", "breakdown")),
             new CategoryDescriptor("status", "Status", List.of()),
             new CategoryDescriptor("breath_condensation", "Breath Condensation", List.of("condensation")),
             new CategoryDescriptor("time_range", "Daytime", List.of("time", "daytime")),
             new CategoryDescriptor("dimension", "Dimension", List.of("dim")),
             new CategoryDescriptor("season", "Season Phase", List.of("phase")),
             new CategoryDescriptor("season_mod", "Season Mod", List.of("seasonmod", "mod")),
-            new CategoryDescriptor("version", "Particles", List.of("version", "ver", "particle"))
+            new CategoryDescriptor("version", "Particles", List.of("version", "ver", "particle")),
+            new CategoryDescriptor("particle_budget", "Particle Budget", List.of("budget"))
     );
 
     private static final Map<String, CategoryDescriptor> DESCRIPTORS_BY_KEY = buildDescriptorIndex();
 
-    private final StateBlends blends;
+    // The controller swaps in a fresh simulation when traces start or stop, so always read its current blends.
+    private final Supplier<BlendState> blends;
 
-    public DebugManager(StateBlends blends) {
+    public DebugManager(Supplier<BlendState> blends) {
         this.blends = Objects.requireNonNull(blends, "blends");
     }
 
@@ -63,8 +74,9 @@ public final class DebugManager {
     public DebugSnapshot capture() {
         Minecraft client = Minecraft.getInstance();
         if (client == null) return DebugSnapshot.empty();
+        BlendState blends = this.blends.get();
 
-        ColdBreathConfig cfg = ConfigManager.get();
+        EffectiveConfig cfg = ConfigManager.effective();
         Builder builder = new Builder();
 
         ClientLevel world = client.level;
@@ -78,7 +90,7 @@ public final class DebugManager {
                 breathingText = "visible breath: bubbles";
                 breathingColor = 0xFF4EA3FF;
             } else {
-                EnvModel.BreathEligibility eligibility = EnvModel.checkEligibility(world, client.player, cfg);
+                BreathEligibility eligibility = EligibilityCache.INSTANCE.eligibility(world, client.player, cfg);
                 if (eligibility.allowed()) {
                     breathingText = "visible breath: yes";
                     breathingColor = 0xFF00FF00;
@@ -92,36 +104,31 @@ public final class DebugManager {
         builder.addLine(descriptorFor("visible_breath"), new DebugLine(breathingText, breathingColor));
 
         // Interval information
-        double baseInterval = BreathController.INSTANCE.getCurrentBaseIntervalSeconds(cfg);
-        if (world != null && client.player != null && client.player.isUnderWater() && cfg.underwaterEnabled) {
-            baseInterval = Math.max(0.1, cfg.underwaterBaseIntervalSeconds);
-        }
-        builder.addLine(descriptorFor("interval"), new DebugLine(String.format(Locale.ROOT, "interval: %.1fs", baseInterval), 0xFFFFFFFF));
-
-        double minInt;
-        double maxInt;
-        if (world != null && client.player != null && client.player.isUnderWater() && cfg.underwaterEnabled) {
-            double base = Math.max(0.1, cfg.underwaterBaseIntervalSeconds);
-            double dev = Math.max(0.0, cfg.underwaterIntervalDeviationSeconds);
-            minInt = Math.max(0.1, base - dev);
-            maxInt = Math.max(minInt, base + dev);
-        } else {
-            double[] range = BreathController.INSTANCE.getCurrentIntervalMinMaxSeconds(cfg);
-            minInt = range[0];
-            maxInt = range[1];
-        }
-        builder.addLine(descriptorFor("interval_range"), new DebugLine(String.format(Locale.ROOT, "min/max: %.1fs / %.1fs", minInt, maxInt), 0xFFFFFFFF));
+        IntervalPlan plan = (world != null && client.player != null && client.player.isUnderWater() && cfg.underwaterEnabled)
+                ? BreathKernel.underwaterPlan(cfg)
+                : BreathKernel.plan(blends.getSprintBlend(), blends.getHealthBlend(), cfg);
+        builder.addLine(descriptorFor("interval"), new DebugLine(String.format(Locale.ROOT, "interval: %.1fs", plan.baseSeconds()), 0xFFFFFFFF));
+        builder.addLine(descriptorFor("interval_range"), new DebugLine(String.format(Locale.ROOT, "min/max: %.1fs / %.1fs", plan.minSeconds(), plan.maxSeconds()), 0xFFFFFFFF));
 
         // Temperature information only when in world
         if (world != null && client.player != null) {
             BlockPos pos = client.player.blockPosition();
-            float baseTemp = world.getBiome(pos).value().getBaseTemperature();
-            float effTemp = EnvModel.computeEffectiveTemperature(world, pos, cfg);
+            float baseTemp = EligibilityCache.INSTANCE.baseTemperature(world, client.player, cfg);
+            float effTemp = EligibilityCache.INSTANCE.temperature(world, client.player, cfg);
             int sea = world.getSeaLevel();
             int alt = pos.getY() - sea;
             double seasonModifier = SeasonManager.getTemperatureOffset();
             String tempLine = String.format(Locale.ROOT, "temp: %.3f (base: %.3f), alt: %+d, season: %+.3f", effTemp, baseTemp, alt, seasonModifier);
             builder.addLine(descriptorFor("temperature"), new DebugLine(tempLine, 0xFFFFFFFF));
+
+            float[] breakdown = EligibilityCache.INSTANCE.temperatureBreakdown(world, client.player, cfg);
+            StringBuilder stages = new StringBuilder("stages:");
+            for (int i = 0; i < breakdown.length; i++) {
+                if (Float.isNaN(breakdown[i])) continue;
+                stages.append(' ').append(TemperaturePipeline.stage(i).label())
+                        .append(String.format(Locale.ROOT, " %+.3f", breakdown[i]));
+            }
+            builder.addLine(descriptorFor("temperature_stages"), new DebugLine(stages.toString(), 0xFFFFFFFF));
         }
 
         // Status information
@@ -130,12 +137,17 @@ public final class DebugManager {
         // Breath condensation and time information
         if (world != null && client.player != null) {
             long dayTime = world.getGameTime() % 24000L;
-            boolean inWindow = EnvModel.isWithinDayWindow(dayTime, cfg.breathCondensationStartTick, cfg.breathCondensationEndTick);
-            float temp = EnvModel.computeEffectiveTemperature(world, client.player.blockPosition(), cfg);
+            boolean inWindow = BreathKernel.isWithinDayWindow(dayTime, cfg.breathCondensationStartTick, cfg.breathCondensationEndTick);
+            float temp = EligibilityCache.INSTANCE.temperature(world, client.player, cfg);
             boolean okTemp = temp > cfg.alwaysBreathTemperature && temp <= cfg.maxBreathCondensationTemperature;
-            boolean seasonCondensationEnabled = SeasonManager.isBreathCondensationEnabled(cfg.breathCondensationEnabled);
-            boolean condensationActive = seasonCondensationEnabled && inWindow && okTemp;
-            String condensationLabel = seasonCondensationEnabled ? (condensationActive ? "true" : "false") : "disabled";
+            float seasonCondensation = cfg.breathCondensationEnabled
+                    ? BreathKernel.seasonCondensation(SeasonManager.getCurrentPhase(), SeasonManager.getCycleProgress(), cfg)
+                    : 0.0F;
+            boolean condensationActive = seasonCondensation > 0.0F && inWindow && okTemp;
+            String condensationLabel = seasonCondensation > 0.0F ? (condensationActive ? "true" : "false") : "disabled";
+            if (condensationActive && seasonCondensation < 1.0F) {
+                condensationLabel += String.format(Locale.ROOT, " (%.0f%%)", seasonCondensation * 100.0F);
+            }
             builder.addLine(descriptorFor("breath_condensation"), new DebugLine("breath condensation: " + condensationLabel, 0xFFFFFFFF));
 
             String range = String.format(Locale.ROOT, "time: %d | condensation window: %d-%d", dayTime, cfg.breathCondensationStartTick, cfg.breathCondensationEndTick);
@@ -145,39 +157,50 @@ public final class DebugManager {
         // Dimension information
         String dimText = "dim: unknown";
         if (world != null) {
-            EnvModel.DimensionKind kind = EnvModel.getDimensionKind(world);
-            dimText = "dim: " + kind.name().toLowerCase(Locale.ROOT) + " (" + world.dimension().identifier() + ")";
+            ActiveDimension.Resolved dimension = ActiveDimension.INSTANCE.get(world, cfg);
+            dimText = "dim: " + dimension.kind().name().toLowerCase(Locale.ROOT) + " (" + dimension.id() + ")"
+                    + (dimension.visible() ? "" : " hidden");
         }
         builder.addLine(descriptorFor("dimension"), new DebugLine(dimText, 0xFFFFFFFF));
 
         // Season information
         SeasonPhase phase = SeasonManager.getCurrentPhase();
         String phaseDisplay = phase == SeasonPhase.UNKNOWN ? "none" : phase.displayName();
+        if (phase != SeasonPhase.UNKNOWN && cfg.seasonSmoothTransitions) {
+            double progress = SeasonManager.getCycleProgress();
+            phaseDisplay += String.format(Locale.ROOT, " (cycle %.1f%%, condensation %.0f%%)", progress * 100.0,
+                    BreathKernel.seasonCondensation(phase, progress, cfg) * 100.0F);
+        }
         builder.addLine(descriptorFor("season"), new DebugLine("season: " + phaseDisplay, 0xFFFFFFFF));
 
-        String seasonModDisplay = SeasonManager.getCurrentMod() == SeasonDetector.SeasonMod.VANILLA ? "none" : SeasonDetector.getDisplayName();
+        String seasonModDisplay = SeasonManager.getCurrentMod() == SeasonDetector.SeasonMod.VANILLA ? "none" : SeasonManager.getProviderName();
         builder.addLine(descriptorFor("season_mod"), new DebugLine("season mod: " + seasonModDisplay, 0xFFFFFFFF));
 
-        builder.addLine(descriptorFor("version"), new DebugLine("particle: DustParticleOptions(int rgb, float scale)", 0xFFFFFFFF));
+        String particleStyle = world == null ? "none"
+                : ActiveDimension.INSTANCE.get(world, cfg).particleStyle().name().toLowerCase(Locale.ROOT);
+        builder.addLine(descriptorFor("version"), new DebugLine(String.format(Locale.ROOT, "particle: %s | pooled: %d | emitter: %s",
+                particleStyle, BreathParticle.pooled(), EmitterProfiles.INSTANCE.source()), 0xFFFFFFFF));
+
+        ParticleBudget budget = ParticleBudget.INSTANCE;
+        double budgetScale = budget.scale();
+        String frameText = Double.isNaN(budget.frameMillis()) ? "-" : String.format(Locale.ROOT, "%.1fms", budget.frameMillis());
+        String budgetText = cfg.particleBudgetEnabled
+                ? String.format(Locale.ROOT, "budget: %.0f%% | frame: %s | live: ~%d", budgetScale * 100.0, frameText, budget.liveEstimate())
+                : "budget: disabled";
+        builder.addLine(descriptorFor("particle_budget"), new DebugLine(budgetText, budgetScale < 1.0 ? 0xFFFFAA00 : 0xFFFFFFFF));
 
         return builder.isEmpty() ? DebugSnapshot.empty() : builder.build();
     }
 
-    private String getDebugState(ColdBreathConfig cfg) {
-        if (!cfg.sprintingIntervalsEnabled && !cfg.healthBasedBreathingEnabled) return "normal";
-        double baseNormal = Math.max(0.1, cfg.baseIntervalSeconds);
-        double baseSprint = Math.max(0.1, cfg.sprintBaseIntervalSeconds);
-        double baseHealth = Math.max(0.1, cfg.lowHealthIntervalSeconds);
-        double afterSprint = lerp(baseNormal, baseSprint, cfg.sprintingIntervalsEnabled ? blends.getSprintBlend() : 0.0);
-        double afterHealth = lerp(baseNormal, baseHealth, cfg.healthBasedBreathingEnabled ? blends.getHealthBlend() : 0.0);
-        boolean healthCtrl = cfg.healthBasedBreathingEnabled && afterHealth <= afterSprint;
-        boolean sprintCtrl = cfg.sprintingIntervalsEnabled && afterSprint < afterHealth;
-        if (healthCtrl) {
+    private String getDebugState(EffectiveConfig cfg) {
+        BlendState blends = this.blends.get();
+        IntervalPlan plan = BreathKernel.plan(blends.getSprintBlend(), blends.getHealthBlend(), cfg);
+        if (plan.driver() == IntervalPlan.Driver.HEALTH) {
             if (blends.getHealthBlend() >= 0.7) return "critical health";
             if (blends.getHealthBlend() >= 0.3) return "low health";
             return "health priority";
         }
-        if (sprintCtrl) {
+        if (plan.driver() == IntervalPlan.Driver.SPRINT) {
             if (blends.getSprintBlend() >= 0.95) return "sprinting";
             if (blends.getSprintBlend() <= 0.05) return "normal";
             if (blends.getSprintBlend() > blends.getPrevSprintBlend() + 1e-6) return "building up";
@@ -187,10 +210,6 @@ public final class DebugManager {
         return "normal";
     }
 
-    private static double lerp(double a, double b, double t) {
-        return a + (b - a) * t;
-    }
-
     private static CategoryDescriptor descriptorFor(String key) {
         CategoryDescriptor descriptor = DESCRIPTORS_BY_KEY.get(key);
         if (descriptor == null) throw new IllegalArgumentException("Unknown debug category: " + key);
@@ -0,0 +1,178 @@
+package com.sfdesat.coldbreath.particle;
+
+import com.sfdesat.coldbreath.sim.EmitterProfile;
+import com.sfdesat.config.EffectiveConfig;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.particle.Particle;
+import net.minecraft.client.particle.ParticleProvider;
+import net.minecraft.client.particle.SingleQuadParticle;
+import net.minecraft.client.particle.SpriteSet;
+import net.minecraft.core.particles.SimpleParticleType;
+import net.minecraft.util.RandomSource;
+
+import java.util.ArrayDeque;
+
+/**
+ * Vapour puff for {@link BreathParticleTypes#BREATH}: drifts up slightly, is carried along by the wind of the emit
+ * that spawned it, and follows the active {@link EmitterProfile}'s size, alpha and colour curves over its life.
+ * <p>
+ * Instances are recycled through a small pool: a particle returns itself from {@link #remove()}. That runs inside
+ * its own {@code tick()} while it is still in the particle engine's list; the engine only drops it once the tick
+ * returns. Reuse is still safe because new particles reach the engine through its add queue, which is drained
+ * outside the particle tick loop, after the old entry has been pruned. Appearance is compiled once per config
+ * generation.
+ */
+public final class BreathParticle extends SingleQuadParticle {
+
+	private static final int POOL_CAPACITY = 256;
+	private static final ArrayDeque<BreathParticle> POOL = new ArrayDeque<>();
+
+	private static Appearance appearance = Appearance.DEFAULT;
+	private static long appearanceGeneration = -1L;
+	private static double emitterWindX;
+	private static double emitterWindZ;
+
+	private final SpriteSet sprites;
+	private float startSize;
+	private float startAlpha;
+	private float red;
+	private float green;
+	private float blue;
+	private EmitterProfile profile;
+	private double windPushX;
+	private double windPushZ;
+	private boolean pooled;
+
+	private BreathParticle(ClientLevel level, SpriteSet sprites, double x, double y, double z) {
+		super(level, x, y, z, 0.0, 0.0, 0.0, sprites.first());
+		this.sprites = sprites;
+	}
+
+	/**
+	 * Rebuilds the shared appearance if the config changed since the last call; cheap otherwise.
+	 */
+	public static void configure(EffectiveConfig cfg) {
+		if (cfg.generation == appearanceGeneration) return;
+		appearanceGeneration = cfg.generation;
+		appearance = Appearance.of(cfg);
+	}
+
+	/**
+	 * Wind picked up by particles created until the next call, in blocks per tick. Particles are created
+	 * synchronously from {@code addParticle}, so the spawner sets this around an emit and clears it afterwards.
+	 */
+	public static void setEmitterWind(double x, double z) {
+		emitterWindX = x;
+		emitterWindZ = z;
+	}
+
+	public static int pooled() {
+		return POOL.size();
+	}
+
+	private static BreathParticle obtain(ClientLevel level, SpriteSet sprites, double x, double y, double z) {
+		BreathParticle particle;
+		while ((particle = POOL.pollFirst()) != null) {
+			// Pooled particles keep the level they were made for; drop ones left over from a previous level.
+			if (particle.level == level && particle.sprites == sprites) {
+				particle.pooled = false;
+				return particle;
+			}
+		}
+		return new BreathParticle(level, sprites, x, y, z);
+	}
+
+	private BreathParticle init(double x, double y, double z, double xd, double yd, double zd) {
+		Appearance a = appearance;
+		this.removed = false;
+		this.setPos(x, y, z);
+		this.xo = x;
+		this.yo = y;
+		this.zo = z;
+		this.xd = xd;
+		this.yd = yd;
+		this.zd = zd;
+		this.age = 0;
+		this.lifetime = a.minLifetime + random.nextInt(a.lifetimeSpread + 1);
+		this.gravity = -a.buoyancy;
+		this.friction = a.drag;
+		this.hasPhysics = false;
+		// Per-tick push that settles the velocity at roughly the wind speed against the particle's drag.
+		this.windPushX = emitterWindX * (1.0F - a.drag);
+		this.windPushZ = emitterWindZ * (1.0F - a.drag);
+		this.startSize = a.size * (0.8F + random.nextFloat() * 0.4F);
+		this.startAlpha = a.alpha;
+		this.red = a.red;
+		this.green = a.green;
+		this.blue = a.blue;
+		// Keep the profile the particle was born with so a resource reload does not change it mid-life.
+		this.profile = EmitterProfile.active();
+		applyCurves(0.0F);
+		this.setSprite(sprites.get(random));
+		return this;
+	}
+
+	@Override
+	public void tick() {
+		xd += windPushX;
+		zd += windPushZ;
+		super.tick();
+		if (removed) return;
+		applyCurves((float) age / lifetime);
+	}
+
+	private void applyCurves(float progress) {
+		EmitterProfile p = profile;
+		quadSize = startSize * p.sizeAt(progress);
+		setColor(red * p.redAt(progress), green * p.greenAt(progress), blue * p.blueAt(progress));
+		setAlpha(startAlpha * p.alphaAt(progress));
+	}
+
+	@Override
+	public void remove() {
+		super.remove();
+		if (!pooled && POOL.size() < POOL_CAPACITY) {
+			pooled = true;
+			POOL.addLast(this);
+		}
+	}
+
+	@Override
+	protected Layer getLayer() {
+		return Layer.TRANSLUCENT;
+	}
+
+	public static final class Provider implements ParticleProvider<SimpleParticleType> {
+		private final SpriteSet sprites;
+
+		public Provider(SpriteSet sprites) {
+			this.sprites = sprites;
+		}
+
+		@Override
+		public Particle createParticle(SimpleParticleType type, ClientLevel level, double x, double y, double z,
+									   double xd, double yd, double zd, RandomSource random) {
+			return obtain(level, sprites, x, y, z).init(x, y, z, xd, yd, zd);
+		}
+	}
+
+	private record Appearance(float red, float green, float blue, float alpha, float size, int minLifetime,
+							  int lifetimeSpread, float buoyancy, float drag) {
+		private static final Appearance DEFAULT = new Appearance(0.9F, 0.95F, 1.0F, 0.55F, 0.09F, 20, 10, 0.03F, 0.92F);
+
+		private static Appearance of(EffectiveConfig cfg) {
+			int rgb = cfg.breathColor;
+			return new Appearance(
+					((rgb >> 16) & 0xFF) / 255.0F,
+					((rgb >> 8) & 0xFF) / 255.0F,
+					(rgb & 0xFF) / 255.0F,
+					DEFAULT.alpha,
+					DEFAULT.size * cfg.breathSize / 0.6F,
+					DEFAULT.minLifetime,
+					DEFAULT.lifetimeSpread,
+					DEFAULT.buoyancy,
+					DEFAULT.drag
+			);
+		}
+	}
+}
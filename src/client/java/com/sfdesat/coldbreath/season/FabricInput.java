@@ -1,57 +1,72 @@
 package com.sfdesat.coldbreath.season;
 
+import com.sfdesat.coldbreath.bridge.Bridges;
+import com.sfdesat.coldbreath.bridge.CircuitBreaker;
 import com.sfdesat.coldbreath.season.SeasonDetector.SeasonMod;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.world.level.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 /**
  * Reflection-based adapter for Fabric Seasons (https://github.com/lucaargolo/fabric-seasons)
  * to keep Cold Breath decoupled from the mod while still integrating when it is present.
  */
-public final class FabricInput {
+public final class FabricInput implements SeasonProvider {
+
+    public static final String ID = "fabricseasons";
 
     private static final Logger LOGGER = LogManager.getLogger("ColdBreath/FabricInput");
 
-    private FabricInput() {}
+    @Override
+    public String id() {
+        return ID;
+    }
 
-    public static SereneInput.SeasonSnapshot sample(ClientLevel level, SeasonMod mod) {
-        if (level == null || mod != SeasonMod.FABRIC_SEASONS) {
-            return SereneInput.SeasonSnapshot.empty(mod);
-        }
+    @Override
+    public String displayName() {
+        return "Fabric Seasons";
+    }
+
+    @Override
+    public int priority() {
+        return -10;
+    }
 
-        FabricBridge bridge = FabricBridge.INSTANCE;
-        SereneInput.SeasonSnapshot snapshot = bridge.sample(level);
-        return snapshot != null ? snapshot : SereneInput.SeasonSnapshot.empty(mod);
+    @Override
+    public boolean isAvailable() {
+        return SeasonDetector.isAnyLoaded("seasons", "fabricseasons", "fabric-seasons");
+    }
+
+    @Override
+    public SeasonSnapshot sample(ClientLevel level) {
+        SeasonSnapshot snapshot = FabricBridge.INSTANCE.sample(level);
+        return snapshot != null ? snapshot : SeasonSnapshot.empty(SeasonMod.FABRIC_SEASONS);
     }
 
     private static final class FabricBridge {
         private static final FabricBridge INSTANCE = new FabricBridge();
 
         private final boolean available;
-        private final MethodHandle getCurrentSeason;
-        private final MethodHandle getTemperature;
+        private final Function<Object, Object> getCurrentSeason;
+        private final ToIntFunction<Object> getTemperature;
+        private final CircuitBreaker breaker = new CircuitBreaker(3, 200L, 24000L);
         private boolean loggedUnavailable;
         private boolean loggedFailure;
 
         private FabricBridge() {
-            MethodHandle seasonMethod = null;
-            MethodHandle tempMethod = null;
+            Function<Object, Object> seasonMethod = null;
+            ToIntFunction<Object> tempMethod = null;
             boolean ok;
             try {
                 Class<?> fabricSeasons = Class.forName("io.github.lucaargolo.seasons.FabricSeasons");
                 Class<?> seasonEnum = Class.forName("io.github.lucaargolo.seasons.utils.Season");
 
-                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
-                seasonMethod = lookup.findStatic(fabricSeasons, "getCurrentSeason",
-                        MethodType.methodType(seasonEnum, Level.class));
-                tempMethod = lookup.findVirtual(seasonEnum, "getTemperature",
-                        MethodType.methodType(int.class));
+                seasonMethod = Bridges.staticFunction(fabricSeasons, "getCurrentSeason", seasonEnum, Level.class);
+                tempMethod = Bridges.intGetter(seasonEnum, "getTemperature");
                 ok = true;
             } catch (Throwable error) {
                 LOGGER.debug("Fabric Seasons API unavailable: {}", error.toString());
@@ -63,7 +78,7 @@ public final class FabricInput {
             this.loggedUnavailable = !ok;
         }
 
-        private SereneInput.SeasonSnapshot sample(ClientLevel level) {
+        private SeasonSnapshot sample(ClientLevel level) {
             if (!available) {
                 if (!loggedUnavailable) {
                     LOGGER.warn("Fabric Seasons API unavailable; using placeholder seasons");
@@ -71,8 +86,10 @@ public final class FabricInput {
                 }
                 return null;
             }
+            long now = level.getGameTime();
+            if (!breaker.allow(now)) return null;
             try {
-                Object seasonObj = getCurrentSeason.invoke(level);
+                Object seasonObj = getCurrentSeason.apply(level);
                 if (seasonObj == null) return null;
 
                 String seasonName = seasonObj instanceof Enum<?> enumValue
@@ -87,22 +104,20 @@ public final class FabricInput {
                     default -> SeasonPhase.UNKNOWN;
                 };
 
-                double temperatureBias = 0.0D;
-                if (getTemperature != null) {
-                    int temperatureIndex = (int) getTemperature.invoke(seasonObj);
-                    temperatureBias = switch (temperatureIndex) {
-                        case 0 -> -0.12D; // winter
-                        case 1 -> -0.04D; // autumn
-                        case 2 -> 0.05D;  // spring
-                        case 3 -> 0.12D;  // summer
-                        default -> 0.0D;
-                    };
-                }
+                int temperatureIndex = getTemperature.applyAsInt(seasonObj);
+                double temperatureBias = switch (temperatureIndex) {
+                    case 0 -> -0.12D; // winter
+                    case 1 -> -0.04D; // autumn
+                    case 2 -> 0.05D;  // spring
+                    case 3 -> 0.12D;  // summer
+                    default -> 0.0D;
+                };
 
-                return new SereneInput.SeasonSnapshot(SeasonMod.FABRIC_SEASONS, phase, temperatureBias, 0, 0);
-            } catch (Throwable error) {
-                if (!loggedFailure) {
-                    LOGGER.warn("Failed to query Fabric Seasons state: {}", error.toString());
+                breaker.success();
+                return new SeasonSnapshot(SeasonMod.FABRIC_SEASONS, phase, temperatureBias, 0, 0, 0);
+            } catch (RuntimeException | LinkageError error) {
+                if (breaker.failure(now) && !loggedFailure) {
+                    LOGGER.warn("Failed to query Fabric Seasons state, backing off: {}", error.toString());
                     loggedFailure = true;
                 }
                 return null;
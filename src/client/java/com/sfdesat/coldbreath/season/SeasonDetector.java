@@ -1,59 +1,72 @@
 package com.sfdesat.coldbreath.season;
 
+import com.sfdesat.ColdBreathMod;
 import net.fabricmc.loader.api.FabricLoader;
+import net.fabricmc.loader.api.entrypoint.EntrypointContainer;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Collects the {@link SeasonProvider}s: the built-in Serene Seasons and Fabric Seasons adapters plus everything
+ * registered under the {@code coldbreath:season} entrypoint, filtered and ordered by priority once at startup.
+ */
 public final class SeasonDetector {
 
+    public static final String ENTRYPOINT = "coldbreath:season";
+
     public enum SeasonMod {
         VANILLA,
         SERENE_SEASONS,
-        FABRIC_SEASONS
+        FABRIC_SEASONS,
+        OTHER
     }
 
-    private static SeasonMod detected = SeasonMod.VANILLA;
+    private static List<SeasonProvider> providers = List.of();
 
     private SeasonDetector() {}
 
     public static void init() {
-        boolean sereneLoaded = isAnyLoaded(
-                "sereneseasons",
-                "serene_seasons",
-                "serene-seasons"
-        );
-
-        boolean fabricLoaded = isAnyLoaded(
-                "seasons",
-                "fabricseasons",
-                "fabric-seasons"
-        );
-
-        if (sereneLoaded) {
-            detected = SeasonMod.SERENE_SEASONS;
-        } else if (fabricLoaded) {
-            detected = SeasonMod.FABRIC_SEASONS;
-        } else {
-            detected = SeasonMod.VANILLA;
+        List<SeasonProvider> candidates = new ArrayList<>();
+        candidates.add(new SereneInput());
+        candidates.add(new FabricInput());
+        for (EntrypointContainer<SeasonProvider> container
+                : FabricLoader.getInstance().getEntrypointContainers(ENTRYPOINT, SeasonProvider.class)) {
+            try {
+                candidates.add(container.getEntrypoint());
+            } catch (RuntimeException | LinkageError err) {
+                ColdBreathMod.LOGGER.warn("Failed to load Cold Breath season provider from {}", container.getProvider().getMetadata().getId(), err);
+            }
         }
-    }
 
-    public static SeasonMod getDetected() {
-        return detected;
+        List<SeasonProvider> available = new ArrayList<>();
+        for (SeasonProvider provider : candidates) {
+            try {
+                if (provider.isAvailable()) available.add(provider);
+            } catch (RuntimeException | LinkageError err) {
+                ColdBreathMod.LOGGER.warn("Cold Breath season provider {} failed its availability check", provider.getClass().getName(), err);
+            }
+        }
+        available.sort(Comparator.comparingInt(SeasonProvider::priority).reversed());
+        providers = List.copyOf(available);
+        for (SeasonProvider provider : providers) {
+            ColdBreathMod.LOGGER.info("Cold Breath season provider available: {} (priority {}, cost {})",
+                    provider.id(), provider.priority(), provider.cost());
+        }
     }
 
-    public static String getDisplayName() {
-        return switch (detected) {
-            case SERENE_SEASONS -> "Serene Seasons";
-            case FABRIC_SEASONS -> "Fabric Seasons";
-            default -> "Vanilla";
-        };
+    /**
+     * Available providers, highest priority first.
+     */
+    public static List<SeasonProvider> getProviders() {
+        return providers;
     }
 
-    private static boolean isAnyLoaded(String... ids) {
+    static boolean isAnyLoaded(String... ids) {
         for (String id : ids) {
             if (FabricLoader.getInstance().isModLoaded(id)) return true;
         }
         return false;
     }
 }
-
-
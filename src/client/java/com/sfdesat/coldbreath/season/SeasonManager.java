@@ -1,8 +1,11 @@
 package com.sfdesat.coldbreath.season;
 
-import com.sfdesat.coldbreath.season.SereneInput.SeasonSnapshot;
+import com.sfdesat.ColdBreathMod;
+import com.sfdesat.coldbreath.api.ColdBreathApi;
 import com.sfdesat.coldbreath.season.SeasonDetector.SeasonMod;
+import com.sfdesat.coldbreath.sim.SeasonCurve;
 import com.sfdesat.config.ColdBreathConfig;
+import com.sfdesat.config.EffectiveConfig;
 import net.minecraft.client.multiplayer.ClientLevel;
 
 import java.util.EnumMap;
@@ -11,65 +14,115 @@ import java.util.Map;
 /**
  * Central manager responsible for keeping track of the current season and exposing
  * derived environmental adjustments (temperature bias, breath-condensation toggles, etc.).
+ * The active {@link SeasonProvider} is chosen when the config is applied and only sampled when the
+ * level or game day changes, or after its refresh interval; every other {@link #refresh} call returns
+ * the cached snapshot.
  */
 public final class SeasonManager {
 
     private static final EnumMap<SeasonPhase, SeasonAdjustment> ADJUSTMENTS = new EnumMap<>(SeasonPhase.class);
+    private static final long DAY_TICKS = 24000L;
 
     private static boolean seasonsEnabled = true;
-    private static boolean sereneSeasonsEnabled = true;
-    private static boolean fabricSeasonsEnabled = true;
+    private static SeasonProvider active;
+    private static int refreshIntervalTicks = 1200;
+    private static boolean smoothTransitions = true;
+    private static SeasonCurve curve;
 
-    private static SeasonSnapshot latest = SeasonSnapshot.empty(SeasonDetector.getDetected());
+    private static SeasonSnapshot latest = SeasonSnapshot.empty(SeasonMod.VANILLA);
+    private static ClientLevel sampledLevel;
+    private static long sampledAt = Long.MIN_VALUE;
+    private static long sampledDay = Long.MIN_VALUE;
+    private static long lastGameTime;
 
     static {
         ColdBreathConfig defaults = new ColdBreathConfig();
         defaults.normalizeSeasonConfig();
-        applyConfig(defaults);
+        applyConfig(EffectiveConfig.compile(defaults, 0L));
     }
 
     private SeasonManager() {}
 
-    public static void applyConfig(ColdBreathConfig cfg) {
-        cfg.normalizeSeasonConfig();
+    public static void applyConfig(EffectiveConfig cfg) {
         seasonsEnabled = cfg.seasonsEnabled;
-        sereneSeasonsEnabled = cfg.sereneSeasonsIntegration;
-        fabricSeasonsEnabled = cfg.fabricSeasonsIntegration;
+        active = selectProvider(cfg);
+        refreshIntervalTicks = refreshIntervalFor(active, cfg);
+        smoothTransitions = cfg.seasonSmoothTransitions;
+        curve = cfg.seasonCurve;
+        sampledLevel = null;
 
         ADJUSTMENTS.clear();
         SeasonPhase[] phases = SeasonPhase.orderedValues();
         for (int i = 0; i < phases.length; i++) {
             ADJUSTMENTS.put(phases[i], new SeasonAdjustment(
-                    cfg.seasonTemperatureOffsets[i],
-                    cfg.seasonBreathCondensation[i]
+                    cfg.seasonTemperatureOffset(phases[i]),
+                    cfg.seasonBreathCondensation(phases[i])
             ));
         }
 
         if (!seasonsEnabled) {
-            latest = SeasonSnapshot.empty(SeasonMod.VANILLA);
+            publish(SeasonSnapshot.empty(SeasonMod.VANILLA));
         }
     }
 
     /**
-     * Refreshes the cached season snapshot. Call this only when a breath attempt is about to be processed.
+     * Re-samples the season mod if the level or game day changed or the refresh interval has passed.
+     * Cheap otherwise, so it is safe to call on every breath attempt or API query.
      */
     public static void refresh(ClientLevel level) {
-        if (!seasonsEnabled) {
-            latest = SeasonSnapshot.empty(SeasonMod.VANILLA);
+        if (level == null) return;
+        long gameTime = level.getGameTime();
+        lastGameTime = gameTime;
+        long day = Math.floorDiv(gameTime, DAY_TICKS);
+        if (level == sampledLevel && day == sampledDay && gameTime >= sampledAt
+                && gameTime - sampledAt < refreshIntervalTicks) {
             return;
         }
+        sampledLevel = level;
+        sampledAt = gameTime;
+        sampledDay = day;
+        publish(sample(level));
+    }
+
+    private static SeasonSnapshot sample(ClientLevel level) {
+        SeasonProvider provider = active;
+        if (!seasonsEnabled || provider == null) {
+            return SeasonSnapshot.empty(SeasonMod.VANILLA);
+        }
+        try {
+            SeasonSnapshot snapshot = provider.sample(level);
+            return snapshot != null ? snapshot : SeasonSnapshot.empty(SeasonMod.VANILLA);
+        } catch (RuntimeException | LinkageError err) {
+            ColdBreathMod.LOGGER.warn("Cold Breath season provider {} failed; disabling it", provider.id(), err);
+            active = null;
+            return SeasonSnapshot.empty(SeasonMod.VANILLA);
+        }
+    }
 
-        SeasonMod mod = SeasonDetector.getDetected();
-        if (mod == SeasonMod.SERENE_SEASONS && !sereneSeasonsEnabled) {
-            mod = fabricSeasonsEnabled ? SeasonMod.FABRIC_SEASONS : SeasonMod.VANILLA;
-        } else if (mod == SeasonMod.FABRIC_SEASONS && !fabricSeasonsEnabled) {
-            mod = sereneSeasonsEnabled ? SeasonMod.SERENE_SEASONS : SeasonMod.VANILLA;
+    private static SeasonProvider selectProvider(EffectiveConfig cfg) {
+        for (SeasonProvider provider : SeasonDetector.getProviders()) {
+            boolean enabled = switch (provider.id()) {
+                case SereneInput.ID -> cfg.sereneSeasonsIntegration;
+                case FabricInput.ID -> cfg.fabricSeasonsIntegration;
+                default -> true;
+            };
+            if (enabled) return provider;
         }
+        return null;
+    }
 
-        if (mod == SeasonMod.FABRIC_SEASONS) {
-            latest = FabricInput.sample(level, mod);
-        } else {
-            latest = SereneInput.sample(level, mod);
+    private static int refreshIntervalFor(SeasonProvider provider, EffectiveConfig cfg) {
+        if (provider == null) return cfg.seasonRefreshIntervalTicks;
+        int declared = provider.refreshIntervalTicks();
+        int interval = declared > 0 ? declared : cfg.seasonRefreshIntervalTicks;
+        return Math.max(provider.cost().minIntervalTicks(), interval);
+    }
+
+    private static void publish(SeasonSnapshot next) {
+        SeasonSnapshot previous = latest;
+        latest = next;
+        if (previous.phase() != next.phase()) {
+            ColdBreathApi.publishSeasonPhaseChange(previous.phase(), next.phase(), next.mod());
         }
     }
 
@@ -77,14 +130,39 @@ public final class SeasonManager {
         if (!seasonsEnabled || latest.mod() == SeasonMod.VANILLA) {
             return 0.0D;
         }
+        if (smoothTransitions && latest.phase() != SeasonPhase.UNKNOWN) {
+            return curve.offsetAt(getCycleProgress()) + latest.temperatureBias();
+        }
         SeasonAdjustment adjustment = ADJUSTMENTS.getOrDefault(latest.phase(), SeasonAdjustment.DEFAULT);
         return adjustment.temperatureOffset() + latest.temperatureBias();
     }
 
+    /**
+     * Position in the season cycle in {@code [0, 1)}, starting at early spring. Sources that report an exact
+     * cycle position are advanced by the ticks since they were sampled; others sit at the centre of their phase.
+     */
+    public static double getCycleProgress() {
+        SeasonSnapshot snapshot = latest;
+        if (!snapshot.hasCyclePosition()) {
+            return snapshot.phase() == SeasonPhase.UNKNOWN ? 0.0D : SeasonCurve.progressOf(snapshot.phase());
+        }
+        long elapsed = Math.max(0L, lastGameTime - sampledAt);
+        long ticks = Math.floorMod(snapshot.cycleTicks() + elapsed, (long) snapshot.cycleLength());
+        return (double) ticks / snapshot.cycleLength();
+    }
+
     public static SeasonPhase getCurrentPhase() {
         return latest.phase();
     }
 
+    /**
+     * Display name of the provider currently supplying seasons, or "none".
+     */
+    public static String getProviderName() {
+        SeasonProvider provider = active;
+        return seasonsEnabled && provider != null ? provider.displayName() : "none";
+    }
+
     public static SeasonMod getCurrentMod() {
         return seasonsEnabled ? latest.mod() : SeasonMod.VANILLA;
     }
@@ -93,6 +171,9 @@ public final class SeasonManager {
         if (!seasonsEnabled || latest.mod() == SeasonMod.VANILLA) {
             return defaultValue;
         }
+        if (smoothTransitions && latest.phase() != SeasonPhase.UNKNOWN) {
+            return curve.condensationAt(getCycleProgress()) > 0.0F;
+        }
         SeasonAdjustment adjustment = ADJUSTMENTS.getOrDefault(latest.phase(), SeasonAdjustment.DEFAULT);
         return adjustment.breathCondensationEnabled();
     }
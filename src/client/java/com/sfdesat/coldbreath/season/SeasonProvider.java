@@ -0,0 +1,66 @@
+package com.sfdesat.coldbreath.season;
+
+import net.minecraft.client.multiplayer.ClientLevel;
+
+/**
+ * Supplies the current season to Cold Breath. Register implementations under the {@code coldbreath:season}
+ * entrypoint in {@code fabric.mod.json}; third-party providers should report {@link SeasonDetector.SeasonMod#OTHER}
+ * in their snapshots.
+ * <p>
+ * The available provider with the highest {@link #priority()} is chosen once at startup. It is only sampled when
+ * the game day changes or its refresh interval has passed, never per breath.
+ */
+public interface SeasonProvider {
+
+    enum Cost {
+        /** Plain field reads; may be sampled every second. */
+        CHEAP(20),
+        /** A few API calls; the default. */
+        MODERATE(200),
+        /** Walks data structures or allocates; sampled at most once a minute. */
+        EXPENSIVE(1200);
+
+        private final int minIntervalTicks;
+
+        Cost(int minIntervalTicks) {
+            this.minIntervalTicks = minIntervalTicks;
+        }
+
+        public int minIntervalTicks() {
+            return minIntervalTicks;
+        }
+    }
+
+    /**
+     * Short identifier shown in logs; also the key for the per-provider integration toggles.
+     */
+    String id();
+
+    /**
+     * Name shown in the debug overlay.
+     */
+    default String displayName() { return id(); }
+
+    /**
+     * Higher priorities win. Built-in adapters use 0 (Serene Seasons) and -10 (Fabric Seasons).
+     */
+    default int priority() { return 0; }
+
+    /**
+     * Preferred ticks between samples, or a non-positive value to use the configured refresh interval. Never
+     * sampled more often than {@link Cost#minIntervalTicks()} of {@link #cost()}.
+     */
+    default int refreshIntervalTicks() { return -1; }
+
+    default Cost cost() { return Cost.MODERATE; }
+
+    /**
+     * Checked once at startup; unavailable providers are dropped.
+     */
+    default boolean isAvailable() { return true; }
+
+    /**
+     * Current season for {@code level}, or null if it cannot be determined right now.
+     */
+    SeasonSnapshot sample(ClientLevel level);
+}
@@ -0,0 +1,25 @@
+package com.sfdesat.coldbreath.season;
+
+/**
+ * One sample from a {@link SeasonProvider}. {@code cycleTicks} and {@code cycleLength} place the sample within the
+ * season cycle; providers that only know the phase leave {@code cycleLength} at 0.
+ */
+public record SeasonSnapshot(
+        SeasonDetector.SeasonMod mod,
+        SeasonPhase phase,
+        double temperatureBias,
+        int dayInCycle,
+        int cycleTicks,
+        int cycleLength
+) {
+    public static SeasonSnapshot empty(SeasonDetector.SeasonMod mod) {
+        return new SeasonSnapshot(mod, SeasonPhase.UNKNOWN, 0.0D, 0, 0, 0);
+    }
+
+    /**
+     * Whether the source reported an exact position in the cycle rather than just the phase.
+     */
+    public boolean hasCyclePosition() {
+        return cycleLength > 0;
+    }
+}
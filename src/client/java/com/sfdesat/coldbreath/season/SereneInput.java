@@ -1,92 +1,91 @@
 package com.sfdesat.coldbreath.season;
 
+import com.sfdesat.coldbreath.bridge.Bridges;
+import com.sfdesat.coldbreath.bridge.CircuitBreaker;
 import com.sfdesat.coldbreath.season.SeasonDetector.SeasonMod;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.world.level.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 /**
  * Adapter that talks to the Serene Seasons API (if present) and translates its
- * data to the abstraction used by {@link SeasonManager}.
+ * data to the abstraction used by {@link SeasonManager}. Falls back to simple
+ * day-by-day cycling when the mod is installed but its API cannot be reached.
  */
-public final class SereneInput {
+public final class SereneInput implements SeasonProvider {
+
+    public static final String ID = "sereneseasons";
 
     private static final Logger LOGGER = LogManager.getLogger("ColdBreath/SereneInput");
 
-    private SereneInput() {}
+    @Override
+    public String id() {
+        return ID;
+    }
 
-    public static SeasonSnapshot sample(ClientLevel level, SeasonMod mod) {
-        if (level == null) {
-            return SeasonSnapshot.empty(mod);
-        }
+    @Override
+    public String displayName() {
+        return "Serene Seasons";
+    }
 
-        if (mod == SeasonMod.SERENE_SEASONS) {
-            SeasonSnapshot real = SereneBridge.INSTANCE.sample(level);
-            if (real != null) {
-                return real;
-            }
-        }
+    @Override
+    public boolean isAvailable() {
+        return SeasonDetector.isAnyLoaded("sereneseasons", "serene_seasons", "serene-seasons");
+    }
 
-        return placeholder(level, mod);
+    @Override
+    public SeasonSnapshot sample(ClientLevel level) {
+        SeasonSnapshot real = SereneBridge.INSTANCE.sample(level);
+        return real != null ? real : placeholder(level, SeasonMod.SERENE_SEASONS);
     }
 
     private static SeasonSnapshot placeholder(ClientLevel level, SeasonMod mod) {
-        if (mod == SeasonMod.VANILLA) {
-            return SeasonSnapshot.empty(mod);
-        }
-
+        int phases = SeasonPhase.orderedValues().length;
         long days = level.getGameTime() / 24000L;
-        int index = (int) Math.floorMod(days, SeasonPhase.orderedValues().length);
+        int index = (int) Math.floorMod(days, phases);
         SeasonPhase phase = SeasonPhase.fromOrdinal(index);
-        return new SeasonSnapshot(mod, phase, 0.0D, 0, 0);
-    }
-
-    public record SeasonSnapshot(
-            SeasonMod mod,
-            SeasonPhase phase,
-            double temperatureBias,
-            int dayInCycle,
-            int cycleTicks
-    ) {
-        public static SeasonSnapshot empty(SeasonMod mod) {
-            return new SeasonSnapshot(mod, SeasonPhase.UNKNOWN, 0.0D, 0, 0);
-        }
+        int cycleLength = phases * 24000;
+        return new SeasonSnapshot(mod, phase, 0.0D, index, (int) Math.floorMod(level.getGameTime(), (long) cycleLength), cycleLength);
     }
 
     private static final class SereneBridge {
         private static final SereneBridge INSTANCE = new SereneBridge();
 
         private final boolean available;
-        private final MethodHandle getSeasonState;
-        private final MethodHandle getSubSeason;
-        private final MethodHandle getDay;
-        private final MethodHandle getCycleTicks;
+        private final Function<Object, Object> getSeasonState;
+        private final Function<Object, Object> getSubSeason;
+        private final ToIntFunction<Object> getDay;
+        private final ToIntFunction<Object> getCycleTicks;
+        private final ToIntFunction<Object> getCycleDuration;
+        private final CircuitBreaker breaker = new CircuitBreaker(3, 200L, 24000L);
         private boolean loggedUnavailable;
         private boolean loggedFailure;
 
         private SereneBridge() {
-            MethodHandle seasonState = null;
-            MethodHandle subSeason = null;
-            MethodHandle day = null;
-            MethodHandle cycle = null;
+            Function<Object, Object> seasonState = null;
+            Function<Object, Object> subSeason = null;
+            ToIntFunction<Object> day = null;
+            ToIntFunction<Object> cycle = null;
+            ToIntFunction<Object> cycleDuration = null;
             boolean ok;
             try {
                 Class<?> helper = Class.forName("sereneseasons.api.season.SeasonHelper");
                 Class<?> state = Class.forName("sereneseasons.api.season.ISeasonState");
                 Class<?> subSeasonType = Class.forName("sereneseasons.api.season.Season$SubSeason");
 
-                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
-                seasonState = lookup.findStatic(helper, "getSeasonState",
-                        MethodType.methodType(state, Level.class));
-                subSeason = lookup.findVirtual(state, "getSubSeason",
-                        MethodType.methodType(subSeasonType));
-                day = lookup.findVirtual(state, "getDay", MethodType.methodType(int.class));
-                cycle = lookup.findVirtual(state, "getSeasonCycleTicks", MethodType.methodType(int.class));
+                seasonState = Bridges.staticFunction(helper, "getSeasonState", state, Level.class);
+                subSeason = Bridges.getter(state, "getSubSeason", subSeasonType);
+                day = Bridges.intGetter(state, "getDay");
+                cycle = Bridges.intGetter(state, "getSeasonCycleTicks");
+                try {
+                    cycleDuration = Bridges.intGetter(state, "getCycleDuration");
+                } catch (ReflectiveOperationException error) {
+                    LOGGER.debug("Serene Seasons getCycleDuration unavailable: {}", error.toString());
+                }
                 ok = true;
             } catch (Throwable error) {
                 LOGGER.debug("Serene Seasons API unavailable: {}", error.toString());
@@ -97,6 +96,7 @@ public final class SereneInput {
             this.getSubSeason = subSeason;
             this.getDay = day;
             this.getCycleTicks = cycle;
+            this.getCycleDuration = cycleDuration;
             this.loggedUnavailable = !ok;
         }
 
@@ -108,18 +108,21 @@ public final class SereneInput {
                 }
                 return null;
             }
+            long now = level.getGameTime();
+            if (!breaker.allow(now)) return null;
             try {
-                Object state = getSeasonState.invoke(level);
+                Object state = getSeasonState.apply(level);
                 if (state == null) return null;
 
-                Object subSeasonObj = getSubSeason.invoke(state);
+                Object subSeasonObj = getSubSeason.apply(state);
                 String subSeasonName = subSeasonObj instanceof Enum<?> enumValue
                         ? enumValue.name()
                         : String.valueOf(subSeasonObj);
                 SeasonPhase phase = SeasonPhase.fromName(subSeasonName);
 
-                int day = (int) getDay.invoke(state);
-                int ticks = (int) getCycleTicks.invoke(state);
+                int day = getDay.applyAsInt(state);
+                int ticks = getCycleTicks.applyAsInt(state);
+                int length = getCycleDuration != null ? getCycleDuration.applyAsInt(state) : 0;
 
                 double bias = switch (phase) {
                     case EARLY_WINTER, MID_WINTER, LATE_WINTER -> -0.15D;
@@ -127,10 +130,11 @@ public final class SereneInput {
                     default -> 0.0D;
                 };
 
-                return new SeasonSnapshot(SeasonMod.SERENE_SEASONS, phase, bias, day, ticks);
-            } catch (Throwable error) {
-                if (!loggedFailure) {
-                    LOGGER.warn("Failed to query Serene Seasons state: {}", error.toString());
+                breaker.success();
+                return new SeasonSnapshot(SeasonMod.SERENE_SEASONS, phase, bias, day, ticks, length);
+            } catch (RuntimeException | LinkageError error) {
+                if (breaker.failure(now) && !loggedFailure) {
+                    LOGGER.warn("Failed to query Serene Seasons state, backing off: {}", error.toString());
                     loggedFailure = true;
                 }
                 return null;
@@ -0,0 +1,144 @@
+package com.sfdesat.coldbreath.temperature;
+
+import com.sfdesat.coldbreath.breath.ActiveDimension;
+import com.sfdesat.coldbreath.breath.BiomeBlend;
+import com.sfdesat.coldbreath.breath.EnvModel;
+import com.sfdesat.coldbreath.sim.BreathKernel;
+import com.sfdesat.config.EffectiveConfig;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.LivingEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Effective temperature as an ordered list of stages compiled from the config. Stages that are switched off are
+ * left out of the compiled array entirely, so they cost nothing per evaluation. Callers that pass a breakdown
+ * array get each stage's contribution recorded by {@link Stage} ordinal ({@link Float#NaN} for stages not in
+ * the pipeline).
+ */
+public final class TemperaturePipeline {
+
+	public enum Stage {
+		BIOME("biome"),
+		ALTITUDE("alt"),
+		SEASON("season"),
+		DIMENSION("dim"),
+		WEATHER("weather"),
+		HEAT("heat"),
+		PROVIDER("provider");
+
+		private final String label;
+
+		Stage(String label) {
+			this.label = label;
+		}
+
+		public String label() { return label; }
+	}
+
+	private static final Stage[] STAGES = Stage.values();
+	private static TemperaturePipeline current;
+
+	private final long generation;
+	private final Stage[] stages;
+	private final Sample sample = new Sample();
+
+	private TemperaturePipeline(long generation, Stage[] stages) {
+		this.generation = generation;
+		this.stages = stages;
+	}
+
+	public static TemperaturePipeline forConfig(EffectiveConfig cfg) {
+		TemperaturePipeline pipeline = current;
+		if (pipeline == null || pipeline.generation != cfg.generation) {
+			pipeline = compile(cfg);
+			current = pipeline;
+		}
+		return pipeline;
+	}
+
+	private static TemperaturePipeline compile(EffectiveConfig cfg) {
+		List<Stage> stages = new ArrayList<>();
+		stages.add(Stage.BIOME);
+		if (cfg.altitudeAdjustmentEnabled) stages.add(Stage.ALTITUDE);
+		if (cfg.seasonsEnabled) stages.add(Stage.SEASON);
+		if (cfg.dimensionTemperatureOffsets) stages.add(Stage.DIMENSION);
+		if (cfg.shelterEnabled || cfg.weatherEnabled) stages.add(Stage.WEATHER);
+		if (cfg.heatSourcesEnabled) stages.add(Stage.HEAT);
+		if (TemperatureProviders.INSTANCE.isActive(cfg)) stages.add(Stage.PROVIDER);
+		return new TemperaturePipeline(cfg.generation, stages.toArray(new Stage[0]));
+	}
+
+	public static int stageCount() { return STAGES.length; }
+
+	public static Stage stage(int ordinal) { return STAGES[ordinal]; }
+
+	public boolean includes(Stage stage) {
+		for (Stage s : stages) {
+			if (s == stage) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Evaluates the pipeline at {@code pos}. {@code entity} may be null, in which case external providers are
+	 * skipped; {@code slidingWindow} selects the local player's incremental biome blend window.
+	 */
+	public float evaluate(ClientLevel level, BlockPos pos, LivingEntity entity, boolean slidingWindow, double seasonOffset,
+						  EffectiveConfig cfg, float[] breakdown) {
+		if (breakdown != null) Arrays.fill(breakdown, Float.NaN);
+		Sample in = sample;
+		in.level = level;
+		in.pos = pos;
+		in.entity = entity;
+		in.slidingWindow = slidingWindow;
+		in.seasonOffset = seasonOffset;
+		in.cfg = cfg;
+
+		float temperature = 0.0F;
+		for (Stage stage : stages) {
+			float next = apply(stage, in, temperature);
+			if (breakdown != null) breakdown[stage.ordinal()] = next - temperature;
+			temperature = next;
+		}
+
+		in.level = null;
+		in.pos = null;
+		in.entity = null;
+		in.cfg = null;
+		return temperature;
+	}
+
+	private static float apply(Stage stage, Sample in, float temperature) {
+		EffectiveConfig cfg = in.cfg;
+		BlockPos pos = in.pos;
+		return switch (stage) {
+			case BIOME -> in.slidingWindow
+					? BiomeBlend.INSTANCE.around(in.level, pos.getX(), pos.getY(), pos.getZ(), cfg)
+					: BiomeBlend.sample(in.level, pos.getX(), pos.getY(), pos.getZ(), cfg);
+			case ALTITUDE -> temperature
+					+ BreathKernel.altitudeContribution(pos.getY(), ActiveDimension.INSTANCE.get(in.level, cfg).seaLevel(), cfg);
+			case SEASON -> temperature + (float) in.seasonOffset;
+			case DIMENSION -> temperature + (float) ActiveDimension.INSTANCE.get(in.level, cfg).temperatureOffset();
+			case WEATHER -> temperature + EnvModel.weatherAt(in.level, pos, cfg);
+			case HEAT -> temperature + EnvModel.heatAt(in.level, pos, cfg);
+			case PROVIDER -> in.entity == null ? temperature
+					: TemperatureProviders.INSTANCE.apply(in.level, in.entity, temperature, cfg);
+		};
+	}
+
+	/**
+	 * Reused per-evaluation inputs; evaluation only ever happens on the client thread.
+	 */
+	private static final class Sample {
+		private ClientLevel level;
+		private BlockPos pos;
+		private LivingEntity entity;
+		private boolean slidingWindow;
+		private double seasonOffset;
+		private EffectiveConfig cfg;
+	}
+}
@@ -0,0 +1,42 @@
+package com.sfdesat.coldbreath.temperature;
+
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.world.entity.LivingEntity;
+
+/**
+ * Supplies the temperature Cold Breath uses for an entity, in vanilla biome temperature units (breath always
+ * shows at or below 0.15 by default, condensation up to 0.7). Register implementations under the
+ * {@code coldbreath:temperature} entrypoint in {@code fabric.mod.json}.
+ * <p>
+ * Providers are tried in descending {@link #priority()} order and the first one that returns a number wins. Each
+ * result is cached for {@link #validityTicks()} ticks per entity, so expensive providers are not called on every
+ * breath.
+ */
+public interface TemperatureProvider {
+
+	/**
+	 * Short identifier shown in logs and the debug overlay.
+	 */
+	String id();
+
+	/**
+	 * Higher priorities are tried first. Built-in adapters use 0.
+	 */
+	default int priority() { return 0; }
+
+	/**
+	 * How many ticks a sampled value stays valid before the provider is asked again.
+	 */
+	default int validityTicks() { return 20; }
+
+	/**
+	 * Checked once at startup; unavailable providers are dropped.
+	 */
+	default boolean isAvailable() { return true; }
+
+	/**
+	 * Returns the temperature for {@code entity}, or {@link Float#NaN} to defer to the next provider.
+	 * {@code builtInTemperature} is Cold Breath's own biome, altitude, season, heat and weather estimate.
+	 */
+	float sample(ClientLevel level, LivingEntity entity, float builtInTemperature);
+}
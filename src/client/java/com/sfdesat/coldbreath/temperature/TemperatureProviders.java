@@ -0,0 +1,139 @@
+package com.sfdesat.coldbreath.temperature;
+
+import com.sfdesat.ColdBreathMod;
+import com.sfdesat.config.EffectiveConfig;
+import it.unimi.dsi.fastutil.ints.Int2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.fabricmc.loader.api.FabricLoader;
+import net.fabricmc.loader.api.entrypoint.EntrypointContainer;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.world.entity.LivingEntity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Registry of {@link TemperatureProvider}s: the built-in adapters plus everything registered under the
+ * {@code coldbreath:temperature} entrypoint, filtered and ordered once at startup. Results are cached per entity
+ * until the answering provider's validity runs out.
+ */
+public final class TemperatureProviders {
+
+	public static final String ENTRYPOINT = "coldbreath:temperature";
+	private static final int CACHE_SWEEP_SIZE = 512;
+
+	private TemperatureProvider[] providers = new TemperatureProvider[0];
+	private final Int2FloatOpenHashMap values = new Int2FloatOpenHashMap();
+	private final Int2LongOpenHashMap expiries = new Int2LongOpenHashMap();
+	private final Int2ObjectOpenHashMap<TemperatureProvider> sources = new Int2ObjectOpenHashMap<>();
+	private ClientLevel level;
+
+	private TemperatureProviders() {}
+
+	public void init() {
+		List<TemperatureProvider> candidates = new ArrayList<>();
+		candidates.add(new ToughAsNailsInput());
+		for (EntrypointContainer<TemperatureProvider> container
+				: FabricLoader.getInstance().getEntrypointContainers(ENTRYPOINT, TemperatureProvider.class)) {
+			try {
+				candidates.add(container.getEntrypoint());
+			} catch (RuntimeException | LinkageError err) {
+				ColdBreathMod.LOGGER.warn("Failed to load Cold Breath temperature provider from {}", container.getProvider().getMetadata().getId(), err);
+			}
+		}
+
+		List<TemperatureProvider> active = new ArrayList<>();
+		for (TemperatureProvider provider : candidates) {
+			try {
+				if (provider.isAvailable()) active.add(provider);
+			} catch (RuntimeException | LinkageError err) {
+				ColdBreathMod.LOGGER.warn("Cold Breath temperature provider {} failed its availability check", provider.getClass().getName(), err);
+			}
+		}
+		active.sort(Comparator.comparingInt(TemperatureProvider::priority).reversed());
+		providers = active.toArray(new TemperatureProvider[0]);
+		for (TemperatureProvider provider : providers) {
+			ColdBreathMod.LOGGER.info("Cold Breath temperature provider active: {} (priority {})", provider.id(), provider.priority());
+		}
+	}
+
+	public boolean isActive(EffectiveConfig cfg) {
+		return cfg.temperatureProvidersEnabled && providers.length > 0;
+	}
+
+	/**
+	 * Temperature for {@code entity}: the cached provider value while still valid, otherwise the first provider
+	 * answer, otherwise {@code builtInTemperature}.
+	 */
+	public float apply(ClientLevel level, LivingEntity entity, float builtInTemperature, EffectiveConfig cfg) {
+		if (!isActive(cfg)) return builtInTemperature;
+		if (level != this.level) {
+			this.level = level;
+			clearCache();
+		}
+
+		long now = level.getGameTime();
+		int id = entity.getId();
+		if (expiries.containsKey(id) && now < expiries.get(id)) {
+			return sources.get(id) == null ? builtInTemperature : values.get(id);
+		}
+
+		if (expiries.size() >= CACHE_SWEEP_SIZE) sweep(now);
+		for (TemperatureProvider provider : providers) {
+			float value;
+			try {
+				value = provider.sample(level, entity, builtInTemperature);
+			} catch (RuntimeException err) {
+				value = Float.NaN;
+			}
+			if (!Float.isNaN(value)) {
+				values.put(id, value);
+				sources.put(id, provider);
+				expiries.put(id, now + Math.max(1, provider.validityTicks()));
+				return value;
+			}
+		}
+		// Nobody answered; remember that for a second so the providers are not hammered.
+		sources.remove(id);
+		expiries.put(id, now + 20L);
+		return builtInTemperature;
+	}
+
+	/**
+	 * Game time until which the cached value for {@code entity} stays valid.
+	 */
+	public long validUntil(LivingEntity entity) {
+		return expiries.containsKey(entity.getId()) ? expiries.get(entity.getId()) : Long.MIN_VALUE;
+	}
+
+	/**
+	 * Id of the provider behind the cached value for {@code entity}, or null if the built-in estimate is used.
+	 */
+	public String sourceFor(LivingEntity entity) {
+		TemperatureProvider provider = sources.get(entity.getId());
+		return provider == null ? null : provider.id();
+	}
+
+	private void sweep(long now) {
+		var iterator = expiries.int2LongEntrySet().fastIterator();
+		while (iterator.hasNext()) {
+			Int2LongMap.Entry entry = iterator.next();
+			if (entry.getLongValue() <= now) {
+				values.remove(entry.getIntKey());
+				sources.remove(entry.getIntKey());
+				iterator.remove();
+			}
+		}
+	}
+
+	private void clearCache() {
+		values.clear();
+		expiries.clear();
+		sources.clear();
+	}
+
+	public static final TemperatureProviders INSTANCE = new TemperatureProviders();
+}
@@ -0,0 +1,80 @@
+package com.sfdesat.coldbreath.temperature;
+
+import com.sfdesat.coldbreath.bridge.Bridges;
+import com.sfdesat.coldbreath.bridge.CircuitBreaker;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.function.BiFunction;
+
+/**
+ * Adapter that talks to the Tough As Nails API (if present) and maps its position temperature level onto
+ * vanilla biome temperature units.
+ */
+public final class ToughAsNailsInput implements TemperatureProvider {
+
+	private static final Logger LOGGER = LogManager.getLogger("ColdBreath/ToughAsNailsInput");
+
+	private final BiFunction<Object, Object, Object> getTemperatureAtPos;
+	private final CircuitBreaker breaker = new CircuitBreaker(3, 200L, 24000L);
+	private boolean loggedFailure;
+
+	public ToughAsNailsInput() {
+		BiFunction<Object, Object, Object> bridge = null;
+		if (FabricLoader.getInstance().isModLoaded("toughasnails")) {
+			try {
+				Class<?> helper = Class.forName("toughasnails.api.temperature.TemperatureHelper");
+				Class<?> temperatureLevel = Class.forName("toughasnails.api.temperature.TemperatureLevel");
+				bridge = Bridges.staticBiFunction(helper, "getTemperatureAtPos", temperatureLevel, Level.class, BlockPos.class);
+			} catch (Throwable error) {
+				LOGGER.debug("Tough As Nails API unavailable: {}", error.toString());
+			}
+		}
+		this.getTemperatureAtPos = bridge;
+	}
+
+	@Override
+	public String id() {
+		return "toughasnails";
+	}
+
+	@Override
+	public int validityTicks() {
+		return 40;
+	}
+
+	@Override
+	public boolean isAvailable() {
+		return getTemperatureAtPos != null;
+	}
+
+	@Override
+	public float sample(ClientLevel level, LivingEntity entity, float builtInTemperature) {
+		long now = level.getGameTime();
+		if (!breaker.allow(now)) return Float.NaN;
+		try {
+			Object result = getTemperatureAtPos.apply(level, entity.blockPosition());
+			String name = result instanceof Enum<?> enumValue ? enumValue.name() : String.valueOf(result);
+			breaker.success();
+			return switch (name) {
+				case "ICY" -> -0.5F;
+				case "COLD" -> 0.1F;
+				case "NEUTRAL" -> 0.6F;
+				case "WARM" -> 1.0F;
+				case "HOT" -> 1.5F;
+				default -> Float.NaN;
+			};
+		} catch (RuntimeException | LinkageError error) {
+			if (breaker.failure(now) && !loggedFailure) {
+				LOGGER.warn("Failed to query Tough As Nails temperature, backing off: {}", error.toString());
+				loggedFailure = true;
+			}
+			return Float.NaN;
+		}
+	}
+}
@@ -25,8 +25,8 @@ public final class ColdBreathConfigScreen {
                 .setTitle(Component.literal("Cold Breath Config"))
 				.setSavingRunnable(() -> {
 					cfg.normalizeSeasonConfig();
-					SeasonManager.applyConfig(cfg);
 					ConfigManager.save();
+					SeasonManager.applyConfig(ConfigManager.effective());
 				});
 
         ConfigCategory mainCat = builder.getOrCreateCategory(Component.literal("Main"));
@@ -77,6 +77,124 @@ public final class ColdBreathConfigScreen {
                 .setSaveConsumer(i -> cfg.altitudeTemperatureRate = i / 100000.0)
                 .build();
 
+		var biomeBlendToggleEntry = eb.startBooleanToggle(Component.literal("Blend Biome Borders"), cfg.biomeBlendEnabled)
+                .setDefaultValue(true)
+                .setTooltip(
+						Component.literal("If enabled, temperature is averaged over nearby biomes."),
+						Component.literal("Stops breath flickering on and off along biome borders.")
+                )
+                .setSaveConsumer(v -> cfg.biomeBlendEnabled = v)
+                .build();
+
+		var biomeBlendRadiusEntry = eb.startIntSlider(
+					Component.literal("Biome Blend Radius"),
+                        cfg.biomeBlendRadius,
+                        0, 32
+                )
+                .setDefaultValue(8)
+                .setTextGetter(i -> Component.literal(i + " blocks"))
+                .setTooltip(Component.literal("Distance over which biome temperatures are blended (0–32 blocks, in steps of 4)."))
+                .setSaveConsumer(i -> cfg.biomeBlendRadius = i)
+                .build();
+
+		var shelterToggleEntry = eb.startBooleanToggle(Component.literal("Enable Shelter"), cfg.shelterEnabled)
+                .setDefaultValue(true)
+                .setTooltip(
+						Component.literal("If enabled, being under a roof (houses, igloos, caves) warms the air slightly"),
+						Component.literal("and shields you from rain and snow.")
+                )
+                .setSaveConsumer(v -> cfg.shelterEnabled = v)
+                .build();
+
+		var shelterBonusEntry = eb.startIntSlider(
+					Component.literal("Shelter Warmth"),
+                        (int) Math.round(cfg.shelterTemperatureBonus * 1000),
+                        0, 500 // 0.000–0.500
+                )
+                .setDefaultValue(100) // 0.1
+                .setTextGetter(i -> Component.literal(String.format("%+.3f", i / 1000.0)))
+                .setTooltip(Component.literal("Temperature added while sheltered (0.000–0.500)."))
+                .setSaveConsumer(i -> cfg.shelterTemperatureBonus = i / 1000.0)
+                .build();
+
+		var weatherToggleEntry = eb.startBooleanToggle(Component.literal("Enable Weather Effects"), cfg.weatherEnabled)
+                .setDefaultValue(true)
+                .setTooltip(Component.literal("If enabled, rain and snow make the air colder when you are outside."))
+                .setSaveConsumer(v -> cfg.weatherEnabled = v)
+                .build();
+
+		var rainModifierEntry = eb.startIntSlider(
+					Component.literal("Rain Cooling"),
+                        (int) Math.round(-cfg.rainTemperatureModifier * 1000),
+                        0, 500 // 0.000–0.500
+                )
+                .setDefaultValue(50) // -0.05
+                .setTextGetter(i -> Component.literal(String.format("%.3f", -i / 1000.0)))
+                .setTooltip(Component.literal("Temperature change in full rain while exposed (0.000 to -0.500)."))
+                .setSaveConsumer(i -> cfg.rainTemperatureModifier = -i / 1000.0)
+                .build();
+
+		var snowModifierEntry = eb.startIntSlider(
+					Component.literal("Snow Cooling"),
+                        (int) Math.round(-cfg.snowTemperatureModifier * 1000),
+                        0, 500 // 0.000–0.500
+                )
+                .setDefaultValue(150) // -0.15
+                .setTextGetter(i -> Component.literal(String.format("%.3f", -i / 1000.0)))
+                .setTooltip(Component.literal("Temperature change in full snowfall while exposed (0.000 to -0.500)."))
+                .setSaveConsumer(i -> cfg.snowTemperatureModifier = -i / 1000.0)
+                .build();
+
+		var temperatureProvidersEntry = eb.startBooleanToggle(Component.literal("Use Temperature Mods"), cfg.temperatureProvidersEnabled)
+                .setDefaultValue(true)
+                .setTooltip(
+						Component.literal("If enabled, temperature comes from a supported temperature mod"),
+						Component.literal("(e.g. Tough As Nails) when one is installed.")
+                )
+                .setSaveConsumer(v -> cfg.temperatureProvidersEnabled = v)
+                .build();
+
+		var statusEffectsToggleEntry = eb.startBooleanToggle(Component.literal("Enable Status Effects"), cfg.statusEffectsEnabled)
+                .setDefaultValue(true)
+                .setTooltip(
+						Component.literal("If enabled, status effects change breathing: fire resistance hides breath,"),
+						Component.literal("slowness slows it, poison and wither quicken it, speed raises it."),
+						Component.literal("The effect mapping is editable in config/coldbreath.json.")
+                )
+                .setSaveConsumer(v -> cfg.statusEffectsEnabled = v)
+                .build();
+
+		var heatToggleEntry = eb.startBooleanToggle(Component.literal("Enable Heat Sources"), cfg.heatSourcesEnabled)
+                .setDefaultValue(true)
+                .setTooltip(
+						Component.literal("If enabled, nearby lava, fire, magma and lit campfires or furnaces warm the air."),
+						Component.literal("Breath fades out close to a fire even in cold biomes.")
+                )
+                .setSaveConsumer(v -> cfg.heatSourcesEnabled = v)
+                .build();
+
+		var heatRadiusEntry = eb.startIntSlider(
+					Component.literal("Heat Source Radius"),
+                        (int) Math.round(cfg.heatSourceRadius),
+                        1, 16
+                )
+                .setDefaultValue(6)
+                .setTextGetter(i -> Component.literal(i + " blocks"))
+                .setTooltip(Component.literal("Distance over which a heat source's warmth fades out (1–16 blocks)."))
+                .setSaveConsumer(i -> cfg.heatSourceRadius = i)
+                .build();
+
+		var heatStrengthEntry = eb.startIntSlider(
+					Component.literal("Heat Source Strength"),
+                        (int) Math.round(cfg.heatSourceStrength * 100),
+                        0, 300 // 0.00–3.00
+                )
+                .setDefaultValue(100) // 1.00
+                .setTextGetter(i -> Component.literal(String.format("%.2fx", i / 100.0)))
+                .setTooltip(Component.literal("Multiplier on how much each heat source warms the air (0.00–3.00)."))
+                .setSaveConsumer(i -> cfg.heatSourceStrength = i / 100.0)
+                .build();
+
 		var alwaysBreathTempEntry = eb.startIntSlider(
 					Component.literal("Breath Temperature"),
                         (int) Math.round(cfg.alwaysBreathTemperature * 1000), // Convert to int (0-1000 range)
@@ -118,6 +236,18 @@ public final class ColdBreathConfigScreen {
 		mainCat.addEntry(alwaysShowEntry);
         mainCat.addEntry(altitudeToggleEntry);
         mainCat.addEntry(altitudeRateEntry);
+        mainCat.addEntry(biomeBlendToggleEntry);
+        mainCat.addEntry(biomeBlendRadiusEntry);
+        mainCat.addEntry(shelterToggleEntry);
+        mainCat.addEntry(shelterBonusEntry);
+        mainCat.addEntry(weatherToggleEntry);
+        mainCat.addEntry(rainModifierEntry);
+        mainCat.addEntry(snowModifierEntry);
+        mainCat.addEntry(temperatureProvidersEntry);
+        mainCat.addEntry(statusEffectsToggleEntry);
+        mainCat.addEntry(heatToggleEntry);
+        mainCat.addEntry(heatRadiusEntry);
+        mainCat.addEntry(heatStrengthEntry);
         mainCat.addEntry(alwaysBreathTempEntry);
         mainCat.addEntry(baseIntervalEntry);
         mainCat.addEntry(baseDevEntry);
@@ -331,11 +461,103 @@ public final class ColdBreathConfigScreen {
                 .setSaveConsumer(v -> cfg.breathSize = v)
                 .build();
 
+        var windToggleEntry = eb.startBooleanToggle(Component.literal("Enable Wind"), cfg.windEnabled)
+                .setDefaultValue(true)
+                .setTooltip(Component.literal("Breath drifts with a gusting wind instead of hanging in front of the face."))
+                .setSaveConsumer(v -> cfg.windEnabled = v)
+                .build();
+
+        var windStrengthEntry = eb.startDoubleField(Component.literal("Wind Strength"), cfg.windStrength)
+                .setDefaultValue(1.0)
+                .setMin(0.0)
+                .setMax(5.0)
+                .setTooltip(
+                        Component.literal("Multiplier for how far breath drifts (0 - 5)."),
+                        Component.literal("Wind is calmer under a roof and stronger in storms and at altitude.")
+                )
+                .setSaveConsumer(v -> cfg.windStrength = v)
+                .build();
+
         visualsCat.addEntry(forwardEntry);
         visualsCat.addEntry(downEntry);
         visualsCat.addEntry(burstEntry);
         visualsCat.addEntry(colorEntry);
 		visualsCat.addEntry(sizeEntry);
+        visualsCat.addEntry(windToggleEntry);
+        visualsCat.addEntry(windStrengthEntry);
+
+        // --- Visuals (level of detail) ---
+        var lodToggleEntry = eb.startBooleanToggle(Component.literal("Enable Level of Detail"), cfg.lodEnabled)
+                .setDefaultValue(true)
+                .setTooltip(Component.literal("Spawn fewer particles for distant or off-screen breaths."))
+                .setSaveConsumer(v -> cfg.lodEnabled = v)
+                .build();
+
+        var lodFrustumEntry = eb.startBooleanToggle(Component.literal("Skip Off-screen Breaths"), cfg.lodFrustumCulling)
+                .setDefaultValue(true)
+                .setTooltip(Component.literal("Skip breaths outside the camera's view."))
+                .setSaveConsumer(v -> cfg.lodFrustumCulling = v)
+                .build();
+
+        var lodFullEntry = eb.startDoubleField(Component.literal("Full Detail Distance"), cfg.lodFullDetailDistance)
+                .setDefaultValue(16.0)
+                .setMin(0.0)
+                .setTooltip(Component.literal("Blocks from the camera within which breaths spawn every particle."))
+                .setSaveConsumer(v -> cfg.lodFullDetailDistance = v)
+                .build();
+
+        var lodReducedEntry = eb.startDoubleField(Component.literal("Reduced Detail Distance"), cfg.lodReducedDistance)
+                .setDefaultValue(32.0)
+                .setMin(0.0)
+                .setTooltip(
+                        Component.literal("Blocks from the camera within which breaths spawn half their particles."),
+                        Component.literal("Beyond this, breaths spawn a quarter of their particles.")
+                )
+                .setSaveConsumer(v -> cfg.lodReducedDistance = v)
+                .build();
+
+        var lodCullEntry = eb.startDoubleField(Component.literal("Max Breath Distance"), cfg.lodCullDistance)
+                .setDefaultValue(64.0)
+                .setMin(0.0)
+                .setTooltip(Component.literal("Breaths further than this many blocks from the camera are not spawned."))
+                .setSaveConsumer(v -> cfg.lodCullDistance = v)
+                .build();
+
+        var budgetToggleEntry = eb.startBooleanToggle(Component.literal("Enable Particle Budget"), cfg.particleBudgetEnabled)
+                .setDefaultValue(true)
+                .setTooltip(
+                        Component.literal("Spawn fewer breath particles while the game is struggling."),
+                        Component.literal("Counts recover gradually once frames are fast again.")
+                )
+                .setSaveConsumer(v -> cfg.particleBudgetEnabled = v)
+                .build();
+
+        var budgetFpsEntry = eb.startIntField(Component.literal("Budget Minimum FPS"), cfg.particleBudgetMinFps)
+                .setDefaultValue(40)
+                .setMin(5)
+                .setTooltip(Component.literal("Below this frame rate, breath particle counts are reduced."))
+                .setSaveConsumer(v -> cfg.particleBudgetMinFps = v)
+                .build();
+
+        var budgetLiveEntry = eb.startIntField(Component.literal("Budget Max Live Particles"), cfg.particleBudgetMaxLive)
+                .setDefaultValue(800)
+                .setMin(16)
+                .setTooltip(Component.literal("Above this many live breath particles, counts are reduced."))
+                .setSaveConsumer(v -> cfg.particleBudgetMaxLive = v)
+                .build();
+
+        @SuppressWarnings({"rawtypes"})
+        List<AbstractConfigListEntry> lodEntries = new ArrayList<>();
+        lodEntries.add(lodToggleEntry);
+        lodEntries.add(lodFrustumEntry);
+        lodEntries.add(lodFullEntry);
+        lodEntries.add(lodReducedEntry);
+        lodEntries.add(lodCullEntry);
+        lodEntries.add(budgetToggleEntry);
+        lodEntries.add(budgetFpsEntry);
+        lodEntries.add(budgetLiveEntry);
+        AbstractConfigListEntry<?> lodSub = eb.startSubCategory(Component.literal("Level of Detail"), lodEntries).build();
+        visualsCat.addEntry(lodSub);
 
 		// --- Seasons ---
 		var seasonsToggle = eb.startBooleanToggle(Component.literal("Enable Seasons"), cfg.seasonsEnabled)
@@ -398,7 +620,28 @@ public final class ColdBreathConfigScreen {
 				.setSaveConsumer(v -> cfg.fabricSeasonsIntegration = v)
 				.build();
 
+		var seasonSmoothEntry = eb.startBooleanToggle(Component.literal("Smooth Season Transitions"), cfg.seasonSmoothTransitions)
+				.setDefaultValue(true)
+				.setTooltip(
+						Component.literal("Blend temperature offsets and breath condensation between neighbouring sub-seasons."),
+						Component.literal("When off, values change in a single step at each sub-season boundary.")
+				)
+				.setSaveConsumer(v -> cfg.seasonSmoothTransitions = v)
+				.build();
+
+		var seasonRefreshEntry = eb.startIntField(Component.literal("Season Refresh Interval (ticks)"), cfg.seasonRefreshIntervalTicks)
+				.setDefaultValue(1200)
+				.setMin(20)
+				.setTooltip(
+						Component.literal("How often the season mod is re-sampled when the game day has not changed."),
+						Component.literal("Day changes always trigger a re-sample.")
+				)
+				.setSaveConsumer(v -> cfg.seasonRefreshIntervalTicks = v)
+				.build();
+
 		seasonsCat.addEntry(fabricSeasonsToggle);
+		seasonsCat.addEntry(seasonSmoothEntry);
+		seasonsCat.addEntry(seasonRefreshEntry);
 		seasonsCat.addEntry(perSeasonTempSub);
 		seasonsCat.addEntry(perSeasonCondensationSub);
 
@@ -458,9 +701,23 @@ public final class ColdBreathConfigScreen {
                 .setSaveConsumer(v -> cfg.visibleInEnd = v)
                 .build();
 
+        var otherPlayersEntry = eb.startBooleanToggle(Component.literal("Other Players Breath"), cfg.otherPlayersBreathEnabled)
+                .setDefaultValue(true)
+                .setTooltip(Component.literal("Show breaths on other players."))
+                .setSaveConsumer(v -> cfg.otherPlayersBreathEnabled = v)
+                .build();
+
+        var mobBreathEntry = eb.startBooleanToggle(Component.literal("Mob Breath"), cfg.mobBreathEnabled)
+                .setDefaultValue(true)
+                .setTooltip(Component.literal("Show breaths on breathing mobs (not undead, golems or water mobs)."))
+                .setSaveConsumer(v -> cfg.mobBreathEnabled = v)
+                .build();
+
         visibilityCat.addEntry(visibleCreativeEntry);
         visibilityCat.addEntry(visibleNetherEntry);
         visibilityCat.addEntry(visibleEndEntry);
+        visibilityCat.addEntry(otherPlayersEntry);
+        visibilityCat.addEntry(mobBreathEntry);
 
         // --- Debug ---
         var debugEntry = eb.startBooleanToggle(Component.literal("Debug Overlay"), cfg.debugEnabled)
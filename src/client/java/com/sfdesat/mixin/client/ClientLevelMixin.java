@@ -0,0 +1,26 @@
+package com.sfdesat.mixin.client;
+
+import com.sfdesat.coldbreath.breath.HeatSourceIndex;
+import com.sfdesat.coldbreath.breath.SkyExposureCache;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Feeds client block changes into {@link HeatSourceIndex} and {@link SkyExposureCache}.
+ */
+@Mixin(ClientLevel.class)
+public abstract class ClientLevelMixin {
+
+	@Inject(method = "sendBlockUpdated", at = @At("TAIL"))
+	private void coldbreath$onBlockUpdated(BlockPos pos, BlockState oldState, BlockState newState, int flags, CallbackInfo ci) {
+		if (oldState == newState) return;
+		ClientLevel level = (ClientLevel) (Object) this;
+		HeatSourceIndex.INSTANCE.onBlockChanged(level, pos, oldState, newState);
+		SkyExposureCache.INSTANCE.onBlockChanged(level, pos);
+	}
+}
@@ -0,0 +1,34 @@
+package com.sfdesat.mixin.client;
+
+import com.sfdesat.coldbreath.breath.StatusEffectTracker;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.Collection;
+
+/**
+ * Reports status effect changes to {@link StatusEffectTracker}.
+ */
+@Mixin(LivingEntity.class)
+public abstract class LivingEntityMixin {
+
+	@Inject(method = "onEffectAdded", at = @At("TAIL"))
+	private void coldbreath$onEffectAdded(MobEffectInstance effect, Entity source, CallbackInfo ci) {
+		StatusEffectTracker.INSTANCE.onEffectAdded((LivingEntity) (Object) this, effect);
+	}
+
+	@Inject(method = "onEffectUpdated", at = @At("TAIL"))
+	private void coldbreath$onEffectUpdated(MobEffectInstance effect, boolean doRefreshAttributes, Entity source, CallbackInfo ci) {
+		StatusEffectTracker.INSTANCE.onEffectAdded((LivingEntity) (Object) this, effect);
+	}
+
+	@Inject(method = "onEffectsRemoved", at = @At("TAIL"))
+	private void coldbreath$onEffectsRemoved(Collection<MobEffectInstance> effects, CallbackInfo ci) {
+		StatusEffectTracker.INSTANCE.onEffectsRemoved((LivingEntity) (Object) this, effects);
+	}
+}
@@ -0,0 +1,84 @@
+package com.sfdesat.coldbreath.bridge;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Season-bridge call cost: the old path ({@link MethodHandle}s in instance fields called with {@code invoke}) against
+ * {@link Bridges} and a direct call. {@link FakeSeasonState} stands in for the Serene Seasons API shape.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BridgeBenchmark {
+
+	public static final class FakeSeasonState {
+		private final int day;
+
+		public FakeSeasonState(int day) {
+			this.day = day;
+		}
+
+		public int getDay() {
+			return day;
+		}
+
+		public static FakeSeasonState getSeasonState(Object level) {
+			return level instanceof FakeSeasonState state ? state : null;
+		}
+	}
+
+	private static final class HandleBridge {
+		private final MethodHandle getSeasonState;
+		private final MethodHandle getDay;
+
+		private HandleBridge() throws ReflectiveOperationException {
+			MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+			this.getSeasonState = lookup.findStatic(FakeSeasonState.class, "getSeasonState",
+					MethodType.methodType(FakeSeasonState.class, Object.class));
+			this.getDay = lookup.findVirtual(FakeSeasonState.class, "getDay", MethodType.methodType(int.class));
+		}
+	}
+
+	private Object level;
+	private HandleBridge handles;
+	private Function<Object, Object> getSeasonState;
+	private ToIntFunction<Object> getDay;
+
+	@Setup
+	public void setup() throws ReflectiveOperationException {
+		level = new FakeSeasonState(17);
+		handles = new HandleBridge();
+		getSeasonState = Bridges.staticFunction(FakeSeasonState.class, "getSeasonState", FakeSeasonState.class, Object.class);
+		getDay = Bridges.intGetter(FakeSeasonState.class, "getDay");
+	}
+
+	@Benchmark
+	public int methodHandleInvoke() throws Throwable {
+		Object state = handles.getSeasonState.invoke(level);
+		return (int) handles.getDay.invoke(state);
+	}
+
+	@Benchmark
+	public int boundBridge() {
+		Object state = getSeasonState.apply(level);
+		return getDay.applyAsInt(state);
+	}
+
+	@Benchmark
+	public int directCall() {
+		return FakeSeasonState.getSeasonState(level).getDay();
+	}
+}
@@ -0,0 +1,106 @@
+package com.sfdesat.coldbreath.sim;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One air emission step: the old path (an immutable vector per intermediate step, as with {@code Vec3}, and a new
+ * {@code DustParticleOptions} per particle) against {@link BreathEmission} with one cached options object. Both
+ * hand their results to the blackhole as the game would hand them to {@code addParticle}, so the objects escape and
+ * the {@code gc} profiler reports the allocation the primitive path actually removes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmissionBenchmark {
+
+	/** Same shape and allocation behaviour as the game's {@code Vec3}. */
+	private record Vec(double x, double y, double z) {
+		Vec add(Vec o) { return new Vec(x + o.x, y + o.y, z + o.z); }
+
+		Vec scale(double s) { return new Vec(x * s, y * s, z * s); }
+
+		Vec normalize() {
+			double len = Math.sqrt(x * x + y * y + z * z);
+			return len < 1.0E-5 ? new Vec(0, 0, 0) : new Vec(x / len, y / len, z / len);
+		}
+
+		static Vec fromRotation(float xRot, float yRot) {
+			double pitch = xRot * (Math.PI / 180.0);
+			double yaw = -yRot * (Math.PI / 180.0);
+			double cosPitch = Math.cos(pitch);
+			return new Vec(Math.sin(yaw) * cosPitch, -Math.sin(pitch), Math.cos(yaw) * cosPitch);
+		}
+	}
+
+	/** Same shape and allocation behaviour as the game's {@code DustParticleOptions}. */
+	private record Dust(int color, float scale) {}
+
+	@Param({"1", "2"})
+	public int count;
+
+	private SplittableRandom random;
+	private double[] buffer;
+	private float xRot;
+	private float yRot;
+	private Dust dust;
+
+	@Setup
+	public void setup() {
+		random = new SplittableRandom(42L);
+		buffer = BreathEmission.newBuffer();
+		xRot = 12.5F;
+		yRot = 137.0F;
+		dust = new Dust(0xFFFFFF, 1.0F);
+	}
+
+	@Benchmark
+	public void legacy(Blackhole bh) {
+		Vec headPos = new Vec(100.5, 64.62, -20.5);
+		Vec look = Vec.fromRotation(xRot, yRot).normalize();
+		Vec forward = look.scale(0.3);
+		Vec down = new Vec(0, -0.1, 0);
+		Vec spawn = headPos.add(forward).add(down);
+		bh.consume(spawn);
+		for (int i = 0; i < count; i++) {
+			double ox = (random.nextDouble() - 0.5) * 0.08;
+			double oy = (random.nextDouble() - 0.5) * 0.04;
+			double oz = (random.nextDouble() - 0.5) * 0.08;
+			double vx = look.x * 0.003 + (random.nextDouble() - 0.5) * 0.002;
+			double vy = Math.max(0, look.y * 0.001) + (random.nextDouble() - 0.5) * 0.002;
+			double vz = look.z * 0.003 + (random.nextDouble() - 0.5) * 0.002;
+			bh.consume(new Dust(0xFFFFFF, 1.0F));
+			bh.consume(spawn.x + ox);
+			bh.consume(spawn.y + oy);
+			bh.consume(spawn.z + oz);
+			bh.consume(vx);
+			bh.consume(vy);
+			bh.consume(vz);
+		}
+	}
+
+	@Benchmark
+	public void primitive(Blackhole bh) {
+		int n = BreathEmission.emit(EmitterProfile.DEFAULT, EmitterProfile.AIR, 100.5, 64.62, -20.5, xRot, yRot, 0.3, 0.1,
+				count, random, buffer);
+		for (int i = 0, o = 0; i < n; i++, o += BreathEmission.STRIDE) {
+			bh.consume(dust);
+			bh.consume(buffer[o]);
+			bh.consume(buffer[o + 1]);
+			bh.consume(buffer[o + 2]);
+			bh.consume(buffer[o + 3]);
+			bh.consume(buffer[o + 4]);
+			bh.consume(buffer[o + 5]);
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.sfdesat;
 
 import net.fabricmc.api.ModInitializer;
+import com.sfdesat.coldbreath.particle.BreathParticleTypes;
 import com.sfdesat.config.ConfigManager;
 
 import org.slf4j.Logger;
@@ -15,6 +16,7 @@ public class ColdBreathMod implements ModInitializer {
 	public void onInitialize() {
 		// Load config early
 		ConfigManager.get();
+		BreathParticleTypes.register();
 		LOGGER.info("Cold Breath mod initialized successfully!");
 	}
 }
\ No newline at end of file
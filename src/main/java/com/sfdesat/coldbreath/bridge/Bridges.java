@@ -0,0 +1,110 @@
+package com.sfdesat.coldbreath.bridge;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Binds optional-mod API methods, found reflectively once, into plain functional interfaces. Each bridge is a
+ * {@link LambdaMetafactory} class that calls the target method directly, so call sites see an ordinary interface
+ * call the JIT can inline instead of a {@link MethodHandle#invoke} with boxing and type checks per call. Targets
+ * must be public methods of public types; anything the metafactory rejects falls back to an exact-typed handle
+ * call.
+ */
+public final class Bridges {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private Bridges() {}
+
+	/**
+	 * {@code int} getter on an instance: {@code owner.name()}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static ToIntFunction<Object> intGetter(Class<?> owner, String name) throws ReflectiveOperationException {
+		MethodHandle target = MethodHandles.publicLookup().findVirtual(owner, name, MethodType.methodType(int.class));
+		ToIntFunction<Object> bound = (ToIntFunction<Object>) metafactory(ToIntFunction.class, "applyAsInt",
+				MethodType.methodType(int.class, Object.class), target);
+		if (bound != null) return bound;
+		MethodHandle exact = target.asType(MethodType.methodType(int.class, Object.class));
+		return value -> {
+			try {
+				return (int) exact.invokeExact(value);
+			} catch (Throwable error) {
+				throw rethrow(error);
+			}
+		};
+	}
+
+	/**
+	 * Object-returning getter on an instance: {@code owner.name()}.
+	 */
+	public static Function<Object, Object> getter(Class<?> owner, String name, Class<?> returnType) throws ReflectiveOperationException {
+		return function(MethodHandles.publicLookup().findVirtual(owner, name, MethodType.methodType(returnType)));
+	}
+
+	/**
+	 * One-argument static method: {@code owner.name(arg)}.
+	 */
+	public static Function<Object, Object> staticFunction(Class<?> owner, String name, Class<?> returnType, Class<?> argType)
+			throws ReflectiveOperationException {
+		return function(MethodHandles.publicLookup().findStatic(owner, name, MethodType.methodType(returnType, argType)));
+	}
+
+	/**
+	 * Two-argument static method: {@code owner.name(a, b)}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static BiFunction<Object, Object, Object> staticBiFunction(Class<?> owner, String name, Class<?> returnType,
+																	  Class<?> firstType, Class<?> secondType) throws ReflectiveOperationException {
+		MethodHandle target = MethodHandles.publicLookup().findStatic(owner, name,
+				MethodType.methodType(returnType, firstType, secondType));
+		BiFunction<Object, Object, Object> bound = (BiFunction<Object, Object, Object>) metafactory(BiFunction.class, "apply",
+				MethodType.methodType(Object.class, Object.class, Object.class), target);
+		if (bound != null) return bound;
+		MethodHandle exact = target.asType(MethodType.methodType(Object.class, Object.class, Object.class));
+		return (a, b) -> {
+			try {
+				return (Object) exact.invokeExact(a, b);
+			} catch (Throwable error) {
+				throw rethrow(error);
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> function(MethodHandle target) {
+		Function<Object, Object> bound = (Function<Object, Object>) metafactory(Function.class, "apply",
+				MethodType.methodType(Object.class, Object.class), target);
+		if (bound != null) return bound;
+		MethodHandle exact = target.asType(MethodType.methodType(Object.class, Object.class));
+		return value -> {
+			try {
+				return (Object) exact.invokeExact(value);
+			} catch (Throwable error) {
+				throw rethrow(error);
+			}
+		};
+	}
+
+	private static Object metafactory(Class<?> iface, String methodName, MethodType erased, MethodHandle target) {
+		try {
+			CallSite site = LambdaMetafactory.metafactory(LOOKUP, methodName, MethodType.methodType(iface),
+					erased, target, target.type());
+			return site.getTarget().invoke();
+		} catch (Throwable error) {
+			return null;
+		}
+	}
+
+	private static RuntimeException rethrow(Throwable error) {
+		if (error instanceof RuntimeException runtime) return runtime;
+		if (error instanceof Error fatal) throw fatal;
+		return new IllegalStateException(error);
+	}
+}
@@ -0,0 +1,52 @@
+package com.sfdesat.coldbreath.bridge;
+
+/**
+ * Backs an integration bridge off after repeated failures. Once {@code threshold} calls in a row have failed the
+ * breaker opens and {@link #allow} returns {@code false} until the backoff has passed; the next call is a single
+ * trial, and each failed trial doubles the backoff up to {@code maxBackoffTicks}. Any success closes it again.
+ * Time is whatever tick counter the caller passes in.
+ */
+public final class CircuitBreaker {
+
+	private final int threshold;
+	private final long initialBackoffTicks;
+	private final long maxBackoffTicks;
+
+	private int failures;
+	private long backoffTicks;
+	private long openUntil = Long.MIN_VALUE;
+	private long trips;
+
+	public CircuitBreaker(int threshold, long initialBackoffTicks, long maxBackoffTicks) {
+		this.threshold = Math.max(1, threshold);
+		this.initialBackoffTicks = Math.max(1L, initialBackoffTicks);
+		this.maxBackoffTicks = Math.max(this.initialBackoffTicks, maxBackoffTicks);
+		this.backoffTicks = this.initialBackoffTicks;
+	}
+
+	public boolean allow(long now) {
+		return failures < threshold || now >= openUntil;
+	}
+
+	public void success() {
+		failures = 0;
+		backoffTicks = initialBackoffTicks;
+	}
+
+	/**
+	 * Records a failed call; returns {@code true} when this failure opened (or re-opened) the breaker.
+	 */
+	public boolean failure(long now) {
+		if (++failures < threshold) return false;
+		if (failures > threshold) backoffTicks = Math.min(maxBackoffTicks, backoffTicks * 2);
+		openUntil = now + backoffTicks;
+		trips++;
+		return true;
+	}
+
+	public boolean isOpen(long now) {
+		return !allow(now);
+	}
+
+	public long trips() { return trips; }
+}
@@ -0,0 +1,23 @@
+package com.sfdesat.coldbreath.particle;
+
+import com.sfdesat.ColdBreathMod;
+import net.fabricmc.fabric.api.particle.v1.FabricParticleTypes;
+import net.minecraft.core.Registry;
+import net.minecraft.core.particles.SimpleParticleType;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.Identifier;
+
+/**
+ * Particle types owned by Cold Breath. The breath particle carries no per-particle data; its colour, size and
+ * lifetime come from the client config, so one shared options instance serves every spawn.
+ */
+public final class BreathParticleTypes {
+
+	public static final SimpleParticleType BREATH = FabricParticleTypes.simple();
+
+	private BreathParticleTypes() {}
+
+	public static void register() {
+		Registry.register(BuiltInRegistries.PARTICLE_TYPE, Identifier.fromNamespaceAndPath(ColdBreathMod.MOD_ID, "breath"), BREATH);
+	}
+}
@@ -0,0 +1,33 @@
+package com.sfdesat.coldbreath.sim;
+
+import com.sfdesat.config.EffectiveConfig;
+
+/**
+ * Sprint and health blends for a single emitter, stepped once per tick.
+ */
+public final class BlendState {
+
+	private double sprintBlend;
+	private double prevSprintBlend;
+	private double healthBlend;
+	private double prevHealthBlend;
+
+	public BlendState() {
+		this.sprintBlend = 0.0;
+		this.prevSprintBlend = 0.0;
+		this.healthBlend = 0.0;
+		this.prevHealthBlend = 0.0;
+	}
+
+	public void step(boolean sprinting, boolean underwater, double healthRatio, double sprintBias, EffectiveConfig cfg) {
+		prevSprintBlend = sprintBlend;
+		prevHealthBlend = healthBlend;
+		sprintBlend = BreathKernel.advanceSprint(sprintBlend, sprinting, underwater, sprintBias, 1L, cfg);
+		healthBlend = BreathKernel.advanceHealth(healthBlend, healthRatio, 1L, cfg);
+	}
+
+	public double getSprintBlend() { return sprintBlend; }
+	public double getPrevSprintBlend() { return prevSprintBlend; }
+	public double getHealthBlend() { return healthBlend; }
+	public double getPrevHealthBlend() { return prevHealthBlend; }
+}
@@ -0,0 +1,12 @@
+package com.sfdesat.coldbreath.sim;
+
+/**
+ * Outcome of a breath attempt: whether a burst starts (and of which kind), why not if it does not,
+ * and how many ticks to wait before the next attempt.
+ */
+public record BreathDecision(boolean visible, boolean underwater, String reason, int waitTicks) {
+
+	public static BreathDecision air(int waitTicks) { return new BreathDecision(true, false, null, waitTicks); }
+	public static BreathDecision underwater(int waitTicks) { return new BreathDecision(true, true, null, waitTicks); }
+	public static BreathDecision skip(String reason, int waitTicks) { return new BreathDecision(false, false, reason, waitTicks); }
+}
@@ -0,0 +1,8 @@
+package com.sfdesat.coldbreath.sim;
+
+public record BreathEligibility(boolean allowed, String reason) {
+	private static final BreathEligibility ALWAYS = new BreathEligibility(true, null);
+
+	public static BreathEligibility allow() { return ALWAYS; }
+	public static BreathEligibility deny(String reason) { return new BreathEligibility(false, reason); }
+}
@@ -0,0 +1,71 @@
+package com.sfdesat.coldbreath.sim;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Particle positions and velocities for one breath burst step, shaped by an {@link EmitterProfile} and computed on
+ * primitives into a caller-owned buffer ({@link #STRIDE} doubles per particle: x, y, z, vx, vy, vz). The view
+ * direction is derived from the entity's pitch and yaw the same way the game does, so nothing on this path allocates.
+ */
+public final class BreathEmission {
+
+	public static final int STRIDE = 6;
+	public static final int MAX_PARTICLES = 32;
+
+	private static final double DEG_TO_RAD = Math.PI / 180.0;
+
+	private BreathEmission() {}
+
+	public static double[] newBuffer() {
+		return new double[MAX_PARTICLES * STRIDE];
+	}
+
+	/**
+	 * Fills {@code out} with up to {@code count} particles of emitter {@code kind} in front of the eyes; returns the
+	 * number written. The profile's own forward and down offsets are added to the ones passed in.
+	 */
+	public static int emit(EmitterProfile profile, int kind, double eyeX, double eyeY, double eyeZ, float xRot, float yRot,
+						   double forwardOffset, double downOffset, int count, RandomGenerator r, double[] out) {
+		int n = Math.min(count, out.length / STRIDE);
+		double pitch = xRot * DEG_TO_RAD;
+		double yaw = -yRot * DEG_TO_RAD;
+		double cosPitch = Math.cos(pitch);
+		double lookX = Math.sin(yaw) * cosPitch;
+		double lookY = -Math.sin(pitch);
+		double lookZ = Math.cos(yaw) * cosPitch;
+
+		double forward = forwardOffset + profile.shape(kind, EmitterProfile.FORWARD_OFFSET);
+		double down = downOffset + profile.shape(kind, EmitterProfile.DOWN_OFFSET);
+		double spreadH = profile.shape(kind, EmitterProfile.SPREAD_H);
+		double spreadV = profile.shape(kind, EmitterProfile.SPREAD_V);
+		double jitterH = profile.shape(kind, EmitterProfile.JITTER_H);
+		double jitterV = profile.shape(kind, EmitterProfile.JITTER_V);
+		double speed = profile.shape(kind, EmitterProfile.FORWARD_SPEED);
+		double baseVx = lookX * speed;
+		double baseVy = Math.max(0, lookY * profile.shape(kind, EmitterProfile.LIFT)) + profile.shape(kind, EmitterProfile.RISE);
+		double baseVz = lookZ * speed;
+
+		double sx = eyeX + lookX * forward;
+		double sy = eyeY + lookY * forward - down;
+		double sz = eyeZ + lookZ * forward;
+		for (int i = 0, o = 0; i < n; i++, o += STRIDE) {
+			out[o] = sx + (r.nextDouble() - 0.5) * spreadH;
+			out[o + 1] = sy + (r.nextDouble() - 0.5) * spreadV;
+			out[o + 2] = sz + (r.nextDouble() - 0.5) * spreadH;
+			out[o + 3] = baseVx + (r.nextDouble() - 0.5) * jitterH;
+			out[o + 4] = baseVy + (r.nextDouble() - 0.5) * jitterV;
+			out[o + 5] = baseVz + (r.nextDouble() - 0.5) * jitterH;
+		}
+		return n;
+	}
+
+	/**
+	 * Adds a horizontal wind velocity to the first {@code n} particles in {@code out}.
+	 */
+	public static void drift(double[] out, int n, double windX, double windZ) {
+		for (int i = 0, o = 0; i < n; i++, o += STRIDE) {
+			out[o + 3] += windX;
+			out[o + 5] += windZ;
+		}
+	}
+}
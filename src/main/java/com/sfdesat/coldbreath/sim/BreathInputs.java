@@ -0,0 +1,23 @@
+package com.sfdesat.coldbreath.sim;
+
+import com.sfdesat.coldbreath.season.SeasonPhase;
+
+/**
+ * Plain snapshot of everything a breath decision depends on, captured by the client adapter
+ * (or a recorded trace) so {@link BreathKernel} never touches game objects.
+ */
+public record BreathInputs(
+		boolean spectator,
+		boolean sleeping,
+		boolean dead,
+		boolean creative,
+		boolean underwater,
+		boolean sprinting,
+		double healthRatio,
+		DimensionKind dimension,
+		boolean dimensionVisible,
+		float temperature,
+		long dayTime,
+		SeasonPhase seasonPhase,
+		float seasonCondensation
+) {}
@@ -0,0 +1,271 @@
+package com.sfdesat.coldbreath.sim;
+
+import com.sfdesat.coldbreath.season.SeasonPhase;
+import com.sfdesat.config.EffectiveConfig;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Minecraft-free breath decision math: interval planning, blend smoothing, effective temperature and
+ * eligibility. Everything here works on plain values so it can be driven headless by
+ * {@link BreathSimulation}, a recorded trace, or a benchmark.
+ */
+public final class BreathKernel {
+
+	public static final int TICKS_PER_SECOND = 20;
+	private static final double INTERVAL_TIE_EPSILON = 1e-6;
+	private static final double HEALTH_SMOOTHING = 0.2;
+	// Calm-weather wind at sea level with strength 1, in blocks per tick.
+	private static final float WIND_BASE_SPEED = 0.03F;
+
+	private BreathKernel() {}
+
+	public static BreathDecision decide(BreathInputs in, double sprintBlend, double healthBlend, EffectiveConfig cfg, RandomGenerator random) {
+		return decide(in, sprintBlend, healthBlend, StatusModifiers.NONE, cfg, random);
+	}
+
+	public static BreathDecision decide(BreathInputs in, double sprintBlend, double healthBlend, StatusModifiers modifiers,
+										EffectiveConfig cfg, RandomGenerator random) {
+		BreathEligibility eligibility = checkEligibility(in, modifiers, cfg);
+		if (!eligibility.allowed()) {
+			return BreathDecision.skip(eligibility.reason(), scaleWait(sampleWaitTicks(plan(sprintBlend, healthBlend, cfg), random), modifiers));
+		}
+		if (in.underwater() && cfg.underwaterEnabled) {
+			return BreathDecision.underwater(scaleWait(sampleWaitTicks(underwaterPlan(cfg), random), modifiers));
+		}
+		if (isSeasonFading(in, cfg) && random.nextFloat() >= in.seasonCondensation()) {
+			return BreathDecision.skip("season", scaleWait(sampleWaitTicks(plan(sprintBlend, healthBlend, cfg), random), modifiers));
+		}
+		return BreathDecision.air(scaleWait(sampleWaitTicks(plan(sprintBlend, healthBlend, cfg), random), modifiers));
+	}
+
+	/**
+	 * Eligibility including status effects: a suppressing effect hides air breath but not underwater bubbles.
+	 */
+	public static BreathEligibility checkEligibility(BreathInputs in, StatusModifiers modifiers, EffectiveConfig cfg) {
+		BreathEligibility eligibility = checkEligibility(in, cfg);
+		if (eligibility.allowed() && modifiers.suppress() && !(in.underwater() && cfg.underwaterEnabled)) {
+			return BreathEligibility.deny("status effect");
+		}
+		return eligibility;
+	}
+
+	public static BreathEligibility checkEligibility(BreathInputs in, EffectiveConfig cfg) {
+		if (!cfg.enabled) return BreathEligibility.deny("disabled");
+		if (in.spectator()) return BreathEligibility.deny("spectator");
+		if (in.sleeping()) return BreathEligibility.deny("sleeping");
+		if (in.dead()) return BreathEligibility.deny("dead");
+		if (!cfg.visibleInCreative && in.creative()) return BreathEligibility.deny("creative");
+
+		if (in.underwater()) {
+			return cfg.underwaterEnabled
+					? BreathEligibility.allow()
+					: BreathEligibility.deny("underwater");
+		}
+
+		if (!in.dimensionVisible()) {
+			return BreathEligibility.deny(switch (in.dimension()) {
+				case NETHER -> "nether hidden";
+				case END -> "end hidden";
+				default -> "dimension hidden";
+			});
+		}
+
+		float temp = in.temperature();
+		boolean isColdHere = temp <= cfg.alwaysBreathTemperature;
+		if (cfg.alwaysShowBreath || isColdHere) return BreathEligibility.allow();
+
+		if (!cfg.breathCondensationEnabled) return BreathEligibility.deny("condensation off");
+
+		if (in.seasonCondensation() <= 0.0F) {
+			return BreathEligibility.deny("season");
+		}
+
+		boolean inWindow = isWithinDayWindow(in.dayTime(), cfg.breathCondensationStartTick, cfg.breathCondensationEndTick);
+		if (!inWindow) return BreathEligibility.deny("condensation window");
+
+		boolean goodTemp = temp > cfg.alwaysBreathTemperature && temp <= cfg.maxBreathCondensationTemperature;
+		return goodTemp ? BreathEligibility.allow() : BreathEligibility.deny("temperature");
+	}
+
+	/**
+	 * Whether breath shows in a dimension: the profile's explicit visibility, else the Nether and End toggles.
+	 */
+	public static boolean isDimensionVisible(DimensionKind kind, DimensionProfile profile, EffectiveConfig cfg) {
+		if (profile.visible() != null) return profile.visible();
+		return switch (kind) {
+			case NETHER -> cfg.visibleInNether;
+			case END -> cfg.visibleInEnd;
+			default -> true;
+		};
+	}
+
+	/**
+	 * Whether an allowed air breath still depends on the season: condensation is only partly on (between a
+	 * sub-season with condensation and one without) and the breath is not already shown for being cold.
+	 */
+	public static boolean isSeasonFading(BreathInputs in, EffectiveConfig cfg) {
+		if (in.seasonCondensation() >= 1.0F) return false;
+		return !cfg.alwaysShowBreath && in.temperature() > cfg.alwaysBreathTemperature;
+	}
+
+	/**
+	 * Chance that condensation shows at the given season position: the year curve when smoothing is on,
+	 * otherwise the configured on/off of the current sub-season.
+	 */
+	public static float seasonCondensation(SeasonPhase phase, double cycleProgress, EffectiveConfig cfg) {
+		if (!cfg.seasonsEnabled || phase == null || phase == SeasonPhase.UNKNOWN) return 1.0F;
+		if (cfg.seasonSmoothTransitions) return cfg.seasonCurve.condensationAt(cycleProgress);
+		return cfg.seasonBreathCondensation(phase) ? 1.0F : 0.0F;
+	}
+
+	public static boolean isWithinDayWindow(long dayTime, long start, long end) {
+		if (start == end) return false;
+		return (start <= end) ? (dayTime >= start && dayTime <= end)
+			: (dayTime >= start || dayTime <= end);
+	}
+
+	public static float effectiveTemperature(float baseTemperature, int altitude, int seaLevel, double seasonOffset, EffectiveConfig cfg) {
+		float temperature = baseTemperature;
+		if (cfg.altitudeAdjustmentEnabled) {
+			temperature += altitudeContribution(altitude, seaLevel, cfg);
+		}
+		temperature += (float) seasonOffset;
+		return temperature;
+	}
+
+	/**
+	 * Linear lapse: colder above sea level, warmer below it.
+	 */
+	public static float altitudeContribution(int altitude, int seaLevel, EffectiveConfig cfg) {
+		return -(altitude - seaLevel) * cfg.altitudeTemperatureRate;
+	}
+
+	/**
+	 * Warmth a heat source adds at {@code distanceSq} blocks squared, fading linearly to zero at the configured radius.
+	 */
+	public static float heatContribution(double distanceSq, float sourceHeat, EffectiveConfig cfg) {
+		double radius = cfg.heatSourceRadius;
+		if (distanceSq >= radius * radius) return 0.0F;
+		return (float) (sourceHeat * cfg.heatSourceStrength * (1.0 - Math.sqrt(distanceSq) / radius));
+	}
+
+	/**
+	 * Temperature change from shelter and precipitation. Sheltered positions get the shelter bonus and no weather;
+	 * exposed ones cool by the rain or snow modifier scaled by {@code rainLevel} (0 to 1).
+	 */
+	public static float weatherContribution(boolean sheltered, Precipitation precipitation, float rainLevel, EffectiveConfig cfg) {
+		if (sheltered) return cfg.shelterEnabled ? (float) cfg.shelterTemperatureBonus : 0.0F;
+		if (!cfg.weatherEnabled || rainLevel <= 0.0F) return 0.0F;
+		return switch (precipitation) {
+			case RAIN -> (float) (cfg.rainTemperatureModifier * rainLevel);
+			case SNOW -> (float) (cfg.snowTemperatureModifier * rainLevel);
+			case NONE -> 0.0F;
+		};
+	}
+
+	/**
+	 * Wind speed in blocks per tick that breath drifts at, before the {@link WindField} direction: calm under a roof,
+	 * stronger in rain and thunder and rising with height above sea level up to double at 64 blocks.
+	 */
+	public static float windSpeed(boolean sheltered, float rainLevel, float thunderLevel, int altitude, int seaLevel, EffectiveConfig cfg) {
+		if (!cfg.windEnabled) return 0.0F;
+		float exposure = sheltered ? 0.15F : 1.0F;
+		float weather = 1.0F + 0.5F * rainLevel + thunderLevel;
+		float height = 1.0F + Math.max(0.0F, Math.min(1.0F, (altitude - seaLevel) / 64.0F));
+		return cfg.windStrength * WIND_BASE_SPEED * exposure * weather * height;
+	}
+
+	public static IntervalPlan plan(double sprintBlend, double healthBlend, EffectiveConfig cfg) {
+		double baseNormal = cfg.baseIntervalSeconds;
+		double devNormal = cfg.intervalDeviationSeconds;
+		double baseSprint = cfg.sprintBaseIntervalSeconds;
+		double devSprint = cfg.sprintIntervalDeviationSeconds;
+		double baseHealth = cfg.lowHealthIntervalSeconds;
+		double devHealth = cfg.healthIntervalDeviationSeconds;
+
+		double sprintT = (cfg.sprintingIntervalsEnabled ? sprintBlend : 0.0);
+		double healthT = (cfg.healthBasedBreathingEnabled ? healthBlend : 0.0);
+
+		double afterSprint = lerp(baseNormal, baseSprint, sprintT);
+		double devAfterSprint = lerp(devNormal, devSprint, sprintT);
+		double afterHealth = lerp(baseNormal, baseHealth, healthT);
+		double devAfterHealth = lerp(devNormal, devHealth, healthT);
+
+		double base;
+		double dev;
+		if (Math.abs(afterSprint - afterHealth) <= INTERVAL_TIE_EPSILON) {
+			base = afterSprint;
+			dev = 0.5 * (devAfterSprint + devAfterHealth);
+		} else if (afterSprint < afterHealth) {
+			base = afterSprint;
+			dev = devAfterSprint;
+		} else {
+			base = afterHealth;
+			dev = devAfterHealth;
+		}
+
+		IntervalPlan.Driver driver;
+		if (cfg.healthBasedBreathingEnabled && afterHealth <= afterSprint) {
+			driver = IntervalPlan.Driver.HEALTH;
+		} else if (cfg.sprintingIntervalsEnabled && afterSprint < afterHealth) {
+			driver = IntervalPlan.Driver.SPRINT;
+		} else {
+			driver = IntervalPlan.Driver.NORMAL;
+		}
+
+		double minSec = Math.max(0.1, base - dev);
+		double maxSec = Math.max(minSec, base + dev);
+		return new IntervalPlan(Math.min(afterSprint, afterHealth), minSec, maxSec, driver);
+	}
+
+	public static IntervalPlan underwaterPlan(EffectiveConfig cfg) {
+		return new IntervalPlan(cfg.underwaterBaseIntervalSeconds, cfg.underwaterMinSeconds, cfg.underwaterMaxSeconds,
+				IntervalPlan.Driver.UNDERWATER);
+	}
+
+	public static int sampleWaitTicks(IntervalPlan plan, RandomGenerator random) {
+		double minSec = plan.minSeconds();
+		double maxSec = plan.maxSeconds();
+		double waitSec = (maxSec <= minSec) ? minSec : random.nextDouble(minSec, maxSec);
+		return Math.max(1, (int) Math.round(waitSec * TICKS_PER_SECOND));
+	}
+
+	public static int scaleWait(int waitTicks, StatusModifiers modifiers) {
+		if (modifiers.intervalScale() == 1.0) return waitTicks;
+		return Math.max(1, (int) Math.round(waitTicks * modifiers.intervalScale()));
+	}
+
+	/**
+	 * Advances the sprint blend by {@code ticks} steps, assuming the inputs held for the whole span. {@code sprintBias}
+	 * is a floor on the target, so effects like speed can partly raise breathing without sprinting.
+	 */
+	public static double advanceSprint(double blend, boolean sprinting, boolean underwater, double sprintBias, long ticks, EffectiveConfig cfg) {
+		if (ticks <= 0) return blend;
+		double upRate = cfg.sprintUpRatePerTick;
+		double downRate = cfg.sprintDownRatePerTick;
+
+		if (underwater && cfg.underwaterEnabled) {
+			return blend < 1.0 ? Math.min(1.0, blend + upRate * ticks) : blend;
+		}
+
+		double target = !cfg.sprintingIntervalsEnabled ? 0.0 : (sprinting ? 1.0 : sprintBias);
+		if (target > blend) return Math.min(1.0, blend + upRate * ticks);
+		if (target < blend) return Math.max(0.0, blend - downRate * ticks);
+		return blend;
+	}
+
+	/**
+	 * Advances the health blend by {@code ticks} smoothing steps, assuming the inputs held for the whole span.
+	 * {@code healthRatio} is current over max health.
+	 */
+	public static double advanceHealth(double blend, double healthRatio, long ticks, EffectiveConfig cfg) {
+		if (!cfg.healthBasedBreathingEnabled) return 0.0;
+		if (ticks <= 0) return blend;
+		double target = Math.max(0.0, Math.min(1.0, 1.0 - healthRatio));
+		double retained = ticks == 1L ? 1.0 - HEALTH_SMOOTHING : Math.pow(1.0 - HEALTH_SMOOTHING, ticks);
+		return target + (blend - target) * retained;
+	}
+
+	private static double lerp(double a, double b, double t) { return a + (b - a) * t; }
+}
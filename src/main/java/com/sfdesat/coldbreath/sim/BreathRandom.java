@@ -0,0 +1,48 @@
+package com.sfdesat.coldbreath.sim;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Seedable random streams for the breath pipeline. The local schedule, the entity engine and particle jitter each
+ * draw from their own stream, so reseeding reproduces the local player's breath schedule exactly regardless of
+ * how many other emitters or particles were active. All streams are confined to the client thread.
+ */
+public final class BreathRandom {
+
+	private static final long ENTITY_SALT = 0x9E3779B97F4A7C15L;
+	private static final long PARTICLE_SALT = 0xC2B2AE3D27D4EB4FL;
+
+	private static long seed = System.nanoTime();
+	private static RandomGenerator localSchedule;
+	private static RandomGenerator entitySchedule;
+	private static RandomGenerator particles;
+
+	static {
+		seed(seed);
+	}
+
+	private BreathRandom() {}
+
+	public static void seed(long newSeed) {
+		seed = newSeed;
+		localSchedule = localScheduleFor(newSeed);
+		entitySchedule = new SplittableRandom(newSeed ^ ENTITY_SALT);
+		particles = new SplittableRandom(newSeed ^ PARTICLE_SALT);
+	}
+
+	/**
+	 * A fresh local-schedule stream for {@code seed}, identical to the one {@link #seed(long)} installs.
+	 */
+	public static RandomGenerator localScheduleFor(long seed) {
+		return new SplittableRandom(seed);
+	}
+
+	public static long currentSeed() { return seed; }
+
+	public static RandomGenerator localSchedule() { return localSchedule; }
+
+	public static RandomGenerator entitySchedule() { return entitySchedule; }
+
+	public static RandomGenerator particles() { return particles; }
+}
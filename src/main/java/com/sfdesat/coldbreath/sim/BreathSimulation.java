@@ -0,0 +1,122 @@
+package com.sfdesat.coldbreath.sim;
+
+import com.sfdesat.config.EffectiveConfig;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Single-emitter breath state machine: blends, breath starts, burst emits (at the active {@link EmitterProfile}'s
+ * cadence) and burst ends on a {@link TimingWheel}. The client controller drives it from the local player; headless
+ * callers drive it from plain values. The environment is only sampled when a breath is actually due.
+ */
+public final class BreathSimulation {
+
+	/** Burst cadence of the built-in emitter profile. */
+	public static final int BURST_EMIT_PERIOD_TICKS = 3;
+	public static final int EVENT_BREATH_START = 0;
+	public static final int EVENT_BURST_EMIT = 1;
+	public static final int EVENT_BURST_END = 2;
+	public static final int WHEEL_BUCKETS = 256;
+	private static final int EMITTER = 0;
+
+	private final TimingWheel wheel;
+	private final TimingWheel.Handler dispatcher;
+	private final BlendState blends;
+	private long tick;
+	private long nextBreathTick;
+	private long breathBurstEndTick;
+
+	// Per-tick context, only valid while the wheel is being advanced.
+	private boolean underwater;
+	private StatusModifiers modifiers = StatusModifiers.NONE;
+	private Environment environment;
+	private Output output;
+	private EffectiveConfig cfg;
+	private RandomGenerator random;
+
+	public BreathSimulation() {
+		this.wheel = new TimingWheel(WHEEL_BUCKETS);
+		this.dispatcher = this::onEvent;
+		this.blends = new BlendState();
+		this.wheel.schedule(EMITTER, EVENT_BREATH_START, 0, 1L);
+	}
+
+	public void tick(boolean sprinting, boolean underwater, double healthRatio, StatusModifiers modifiers,
+					 Environment environment, Output output, EffectiveConfig cfg, RandomGenerator random) {
+		long now = ++tick;
+		blends.step(sprinting, underwater, healthRatio, modifiers.sprintBias(), cfg);
+		this.underwater = underwater;
+		this.modifiers = modifiers;
+		this.environment = environment;
+		this.output = output;
+		this.cfg = cfg;
+		this.random = random;
+		try {
+			wheel.advance(now, dispatcher);
+		} finally {
+			this.modifiers = StatusModifiers.NONE;
+			this.environment = null;
+			this.output = null;
+			this.cfg = null;
+			this.random = null;
+		}
+	}
+
+	public BlendState getBlends() { return blends; }
+	public long getTick() { return tick; }
+	public long getNextBreathTick() { return nextBreathTick; }
+	public long getBreathBurstEndTick() { return breathBurstEndTick; }
+
+	private void onEvent(int emitter, int kind, int stamp, long now) {
+		switch (kind) {
+			case EVENT_BREATH_START -> startBreath(now);
+			case EVENT_BURST_EMIT -> {
+				if (now >= breathBurstEndTick) return;
+				if (!underwater || cfg.underwaterEnabled) output.emit(underwater, now);
+				int period = EmitterProfile.active().burstPeriodTicks();
+				if (now + period < breathBurstEndTick) {
+					wheel.schedule(EMITTER, EVENT_BURST_EMIT, 0, now + period);
+				}
+			}
+			case EVENT_BURST_END -> {
+				if (nextBreathTick <= now) {
+					startBreath(now);
+				} else {
+					wheel.schedule(EMITTER, EVENT_BREATH_START, 0, nextBreathTick);
+				}
+			}
+			default -> { }
+		}
+	}
+
+	private void startBreath(long now) {
+		BreathInputs inputs = environment.sample();
+		BreathDecision decision = BreathKernel.decide(inputs, blends.getSprintBlend(), blends.getHealthBlend(), modifiers, cfg, random);
+		nextBreathTick = now + decision.waitTicks();
+		if (decision.visible()) {
+			breathBurstEndTick = now + cfg.breathBurstDurationTicks;
+			wheel.schedule(EMITTER, EVENT_BURST_EMIT, 0, now + 1);
+			wheel.schedule(EMITTER, EVENT_BURST_END, 0, breathBurstEndTick);
+		} else {
+			wheel.schedule(EMITTER, EVENT_BREATH_START, 0, nextBreathTick);
+		}
+		output.breath(decision, inputs, now);
+	}
+
+	/**
+	 * Supplies the full input snapshot when a breath attempt is due.
+	 */
+	@FunctionalInterface
+	public interface Environment {
+		BreathInputs sample();
+	}
+
+	/**
+	 * Receives breath attempts and the particle emits of each burst.
+	 */
+	public interface Output {
+		void breath(BreathDecision decision, BreathInputs inputs, long tick);
+
+		void emit(boolean underwater, long tick);
+	}
+}
@@ -0,0 +1,208 @@
+package com.sfdesat.coldbreath.sim;
+
+import com.sfdesat.coldbreath.season.SeasonPhase;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Per-tick recording of everything the breath pipeline reads from the game (inputs and status modifiers), stored
+ * column-wise in primitive arrays. Together with the {@link BreathRandom} seed it was recorded under, a trace
+ * reproduces the local player's breath schedule exactly. The breath ticks seen live are kept so a replay can check
+ * itself.
+ */
+public final class BreathTrace {
+
+	private static final int MAGIC = 0x43425452; // "CBTR"
+	private static final int VERSION = 5;
+	private static final int INITIAL_CAPACITY = 1024;
+	// Two hours of ticks; longer recordings are not useful and a larger count means a corrupt file.
+	private static final int MAX_FRAMES = 2 * 60 * 60 * BreathKernel.TICKS_PER_SECOND;
+	private static final int HEADER_BYTES = 4 + 4 + 8 + 4;
+	// flags, health, temperature, interval scale, sprint bias, day time, dimension, phase, condensation
+	private static final int FRAME_BYTES = 4 + 4 + 4 + 4 + 4 + 8 + 1 + 1 + 4;
+
+	private static final int FLAG_SPECTATOR = 1;
+	private static final int FLAG_SLEEPING = 1 << 1;
+	private static final int FLAG_DEAD = 1 << 2;
+	private static final int FLAG_CREATIVE = 1 << 3;
+	private static final int FLAG_UNDERWATER = 1 << 4;
+	private static final int FLAG_SPRINTING = 1 << 5;
+	private static final int FLAG_SUPPRESS = 1 << 6;
+	private static final int FLAG_DIMENSION_VISIBLE = 1 << 7;
+
+	private static final DimensionKind[] DIMENSIONS = DimensionKind.values();
+	private static final SeasonPhase[] PHASES = SeasonPhase.values();
+
+	private final long seed;
+	private int size;
+	private int[] flags;
+	private float[] health;
+	private float[] temperature;
+	private float[] intervalScale;
+	private float[] sprintBias;
+	private long[] dayTime;
+	private byte[] dimension;
+	private byte[] phase;
+	private float[] seasonCondensation;
+	private int breathCount;
+	private long[] breathTicks;
+
+	public BreathTrace(long seed) {
+		this(seed, INITIAL_CAPACITY);
+	}
+
+	private BreathTrace(long seed, int capacity) {
+		this.seed = seed;
+		int cap = Math.max(1, capacity);
+		this.flags = new int[cap];
+		this.health = new float[cap];
+		this.temperature = new float[cap];
+		this.intervalScale = new float[cap];
+		this.sprintBias = new float[cap];
+		this.dayTime = new long[cap];
+		this.dimension = new byte[cap];
+		this.phase = new byte[cap];
+		this.seasonCondensation = new float[cap];
+		this.breathTicks = new long[64];
+	}
+
+	public long seed() { return seed; }
+	public int size() { return size; }
+	public int breathCount() { return breathCount; }
+	public long breathTick(int index) { return breathTicks[index]; }
+
+	public void record(BreathInputs in, StatusModifiers modifiers) {
+		if (size == flags.length) grow(size * 2);
+		int i = size++;
+		int f = 0;
+		if (in.spectator()) f |= FLAG_SPECTATOR;
+		if (in.sleeping()) f |= FLAG_SLEEPING;
+		if (in.dead()) f |= FLAG_DEAD;
+		if (in.creative()) f |= FLAG_CREATIVE;
+		if (in.underwater()) f |= FLAG_UNDERWATER;
+		if (in.sprinting()) f |= FLAG_SPRINTING;
+		if (modifiers.suppress()) f |= FLAG_SUPPRESS;
+		if (in.dimensionVisible()) f |= FLAG_DIMENSION_VISIBLE;
+		flags[i] = f;
+		health[i] = (float) in.healthRatio();
+		temperature[i] = in.temperature();
+		intervalScale[i] = (float) modifiers.intervalScale();
+		sprintBias[i] = (float) modifiers.sprintBias();
+		dayTime[i] = in.dayTime();
+		dimension[i] = (byte) in.dimension().ordinal();
+		phase[i] = (byte) in.seasonPhase().ordinal();
+		seasonCondensation[i] = in.seasonCondensation();
+	}
+
+	public void recordBreath(long tick) {
+		if (breathCount == breathTicks.length) breathTicks = Arrays.copyOf(breathTicks, breathCount * 2);
+		breathTicks[breathCount++] = tick;
+	}
+
+	public BreathInputs inputs(int i) {
+		int f = flags[i];
+		return new BreathInputs(
+				(f & FLAG_SPECTATOR) != 0,
+				(f & FLAG_SLEEPING) != 0,
+				(f & FLAG_DEAD) != 0,
+				(f & FLAG_CREATIVE) != 0,
+				(f & FLAG_UNDERWATER) != 0,
+				(f & FLAG_SPRINTING) != 0,
+				health[i],
+				DIMENSIONS[dimension[i]],
+				(f & FLAG_DIMENSION_VISIBLE) != 0,
+				temperature[i],
+				dayTime[i],
+				PHASES[phase[i]],
+				seasonCondensation[i]
+		);
+	}
+
+	public StatusModifiers modifiers(int i) {
+		boolean suppress = (flags[i] & FLAG_SUPPRESS) != 0;
+		if (!suppress && intervalScale[i] == 1.0F && sprintBias[i] == 0.0F) return StatusModifiers.NONE;
+		return new StatusModifiers(suppress, intervalScale[i], sprintBias[i]);
+	}
+
+	public boolean sprinting(int i) { return (flags[i] & FLAG_SPRINTING) != 0; }
+	public boolean underwater(int i) { return (flags[i] & FLAG_UNDERWATER) != 0; }
+	public double healthRatio(int i) { return health[i]; }
+
+	public void write(Path path) throws IOException {
+		Path parent = path.getParent();
+		if (parent != null) Files.createDirectories(parent);
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeLong(seed);
+			out.writeInt(size);
+			for (int i = 0; i < size; i++) {
+				out.writeInt(flags[i]);
+				out.writeFloat(health[i]);
+				out.writeFloat(temperature[i]);
+				out.writeFloat(intervalScale[i]);
+				out.writeFloat(sprintBias[i]);
+				out.writeLong(dayTime[i]);
+				out.writeByte(dimension[i]);
+				out.writeByte(phase[i]);
+				out.writeFloat(seasonCondensation[i]);
+			}
+			out.writeInt(breathCount);
+			for (int i = 0; i < breathCount; i++) out.writeLong(breathTicks[i]);
+		}
+	}
+
+	public static BreathTrace read(Path path) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+			if (in.readInt() != MAGIC) throw new IOException("Not a Cold Breath trace: " + path);
+			int version = in.readInt();
+			if (version != VERSION) throw new IOException("Unsupported trace version " + version);
+			long seed = in.readLong();
+			int size = in.readInt();
+			if (size < 0 || size > MAX_FRAMES || (long) size * FRAME_BYTES > Files.size(path) - HEADER_BYTES) {
+				throw new IOException("Corrupt trace: " + path + " claims " + size + " frames");
+			}
+			BreathTrace trace = new BreathTrace(seed, size);
+			for (int i = 0; i < size; i++) {
+				trace.flags[i] = in.readInt();
+				trace.health[i] = in.readFloat();
+				trace.temperature[i] = in.readFloat();
+				trace.intervalScale[i] = in.readFloat();
+				trace.sprintBias[i] = in.readFloat();
+				trace.dayTime[i] = in.readLong();
+				trace.dimension[i] = checkOrdinal(in.readByte(), DIMENSIONS.length);
+				trace.phase[i] = checkOrdinal(in.readByte(), PHASES.length);
+				trace.seasonCondensation[i] = in.readFloat();
+			}
+			trace.size = size;
+			int breaths = in.readInt();
+			if (breaths < 0 || breaths > size) throw new IOException("Corrupt trace: " + path + " claims " + breaths + " breaths");
+			for (int i = 0; i < breaths; i++) trace.recordBreath(in.readLong());
+			return trace;
+		}
+	}
+
+	private static byte checkOrdinal(byte value, int limit) throws IOException {
+		if (value < 0 || value >= limit) throw new IOException("Corrupt trace ordinal " + value);
+		return value;
+	}
+
+	private void grow(int capacity) {
+		flags = Arrays.copyOf(flags, capacity);
+		health = Arrays.copyOf(health, capacity);
+		temperature = Arrays.copyOf(temperature, capacity);
+		intervalScale = Arrays.copyOf(intervalScale, capacity);
+		sprintBias = Arrays.copyOf(sprintBias, capacity);
+		dayTime = Arrays.copyOf(dayTime, capacity);
+		dimension = Arrays.copyOf(dimension, capacity);
+		phase = Arrays.copyOf(phase, capacity);
+		seasonCondensation = Arrays.copyOf(seasonCondensation, capacity);
+	}
+}
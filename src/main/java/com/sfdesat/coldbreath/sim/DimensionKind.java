@@ -0,0 +1,8 @@
+package com.sfdesat.coldbreath.sim;
+
+public enum DimensionKind {
+	OVERWORLD,
+	NETHER,
+	END,
+	OTHER
+}
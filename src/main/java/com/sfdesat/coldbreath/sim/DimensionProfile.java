@@ -0,0 +1,11 @@
+package com.sfdesat.coldbreath.sim;
+
+/**
+ * Per-dimension overrides compiled from config. {@code visible} null means the dimension kind's default
+ * (Nether and End follow their visibility toggles, everything else is visible); {@code seaLevel} null keeps the
+ * level's own sea level for altitude.
+ */
+public record DimensionProfile(Boolean visible, double temperatureOffset, Integer seaLevel, ParticleStyle particleStyle) {
+
+	public static final DimensionProfile DEFAULT = new DimensionProfile(null, 0.0, null, ParticleStyle.DEFAULT);
+}
@@ -0,0 +1,209 @@
+package com.sfdesat.coldbreath.sim;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Shape of a breath burst, compiled from an emitter profile into flat arrays: burst cadence, per-emit particle
+ * counts, spread and velocity for the air and underwater emitters, and size, alpha and colour curves over a
+ * particle's life. Instances are immutable; the active one is swapped whole when resources reload.
+ * <p>
+ * Each emitter kind owns a row of {@link #SHAPE_STRIDE} values in {@code shape}. Velocities are
+ * {@code look * forwardSpeed} horizontally and {@code max(0, lookY * lift) + rise} vertically, each plus a centred
+ * random jitter. Curves hold {@link #CURVE_SAMPLES} + 1 evenly spaced samples from birth to death.
+ */
+public final class EmitterProfile {
+
+	public static final int AIR = 0;
+	public static final int UNDERWATER = 1;
+
+	public static final int SPREAD_H = 0;
+	public static final int SPREAD_V = 1;
+	public static final int FORWARD_SPEED = 2;
+	public static final int LIFT = 3;
+	public static final int RISE = 4;
+	public static final int JITTER_H = 5;
+	public static final int JITTER_V = 6;
+	public static final int FORWARD_OFFSET = 7;
+	public static final int DOWN_OFFSET = 8;
+	public static final int SHAPE_STRIDE = 9;
+
+	public static final int CURVE_SAMPLES = 32;
+	public static final int MAX_BURST_PERIOD_TICKS = 40;
+
+	public static final EmitterProfile DEFAULT = builder().build();
+
+	private static volatile EmitterProfile active = DEFAULT;
+
+	private final int burstPeriodTicks;
+	private final int[][] counts;
+	private final double[] shape;
+	private final float[] size;
+	private final float[] alpha;
+	private final float[] color;
+
+	private EmitterProfile(int burstPeriodTicks, int[][] counts, double[] shape, float[] size, float[] alpha, float[] color) {
+		this.burstPeriodTicks = burstPeriodTicks;
+		this.counts = counts;
+		this.shape = shape;
+		this.size = size;
+		this.alpha = alpha;
+		this.color = color;
+	}
+
+	public static EmitterProfile active() { return active; }
+
+	public static void activate(EmitterProfile profile) {
+		active = profile == null ? DEFAULT : profile;
+	}
+
+	public static Builder builder() { return new Builder(); }
+
+	public int burstPeriodTicks() { return burstPeriodTicks; }
+
+	/**
+	 * Base particle count for one emit of {@code kind}, before LOD and budget scaling.
+	 */
+	public int sampleCount(int kind, RandomGenerator r) {
+		int[] table = counts[kind];
+		return table.length == 1 ? table[0] : table[r.nextInt(table.length)];
+	}
+
+	public double shape(int kind, int field) {
+		return shape[kind * SHAPE_STRIDE + field];
+	}
+
+	public float sizeAt(float progress) { return size[curveIndex(progress)]; }
+
+	public float alphaAt(float progress) { return alpha[curveIndex(progress)]; }
+
+	public float redAt(float progress) { return color[curveIndex(progress) * 3]; }
+
+	public float greenAt(float progress) { return color[curveIndex(progress) * 3 + 1]; }
+
+	public float blueAt(float progress) { return color[curveIndex(progress) * 3 + 2]; }
+
+	private static int curveIndex(float progress) {
+		if (!(progress > 0.0F)) return 0;
+		if (progress >= 1.0F) return CURVE_SAMPLES;
+		return (int) (progress * CURVE_SAMPLES + 0.5F);
+	}
+
+	/**
+	 * Collects a profile's settings. Starts out with the built-in shape; setters throw
+	 * {@link IllegalArgumentException} on values that cannot be compiled.
+	 */
+	public static final class Builder {
+		private int burstPeriodTicks = BreathSimulation.BURST_EMIT_PERIOD_TICKS;
+		private final int[][] counts = { { 1, 1, 2 }, { 2, 3 } };
+		private final double[] shape = {
+				0.08, 0.04, 0.003, 0.001, 0.0, 0.002, 0.002, 0.0, 0.0,
+				0.06, 0.04, 0.0, 0.0, 0.04, 0.02, 0.02, 0.2, 0.05
+		};
+		private double[] sizeKeys = { 0.0, 1.0 };
+		private double[] sizeValues = { 1.0, 2.5 };
+		private double[] alphaKeys = { 0.0, 0.25, 0.5, 0.75, 1.0 };
+		private double[] alphaValues = { 1.0, 0.5625, 0.25, 0.0625, 0.0 };
+		private double[] colorKeys = { 0.0 };
+		private int[] colorValues = { 0xFFFFFF };
+
+		private Builder() {}
+
+		public Builder burstPeriodTicks(int ticks) {
+			if (ticks < 1 || ticks > MAX_BURST_PERIOD_TICKS) {
+				throw new IllegalArgumentException("burst period must be 1.." + MAX_BURST_PERIOD_TICKS + " ticks, got " + ticks);
+			}
+			this.burstPeriodTicks = ticks;
+			return this;
+		}
+
+		/**
+		 * Counts one emit picks from uniformly; repeat a value to weight it.
+		 */
+		public Builder counts(int kind, int[] values) {
+			if (values.length == 0) throw new IllegalArgumentException("count table is empty");
+			for (int v : values) {
+				if (v < 0 || v > BreathEmission.MAX_PARTICLES) {
+					throw new IllegalArgumentException("count must be 0.." + BreathEmission.MAX_PARTICLES + ", got " + v);
+				}
+			}
+			counts[kind] = values.clone();
+			return this;
+		}
+
+		public Builder shape(int kind, int field, double value) {
+			if (!Double.isFinite(value)) throw new IllegalArgumentException("shape value must be finite");
+			if ((field == SPREAD_H || field == SPREAD_V || field == JITTER_H || field == JITTER_V) && value < 0.0) {
+				throw new IllegalArgumentException("spread and jitter must not be negative");
+			}
+			shape[kind * SHAPE_STRIDE + field] = value;
+			return this;
+		}
+
+		public Builder size(double[] keys, double[] values) {
+			checkKeys(keys, values.length);
+			this.sizeKeys = keys.clone();
+			this.sizeValues = values.clone();
+			return this;
+		}
+
+		public Builder alpha(double[] keys, double[] values) {
+			checkKeys(keys, values.length);
+			this.alphaKeys = keys.clone();
+			this.alphaValues = values.clone();
+			return this;
+		}
+
+		/**
+		 * Colour multipliers over life as {@code 0xRRGGBB}, applied on top of the configured breath colour.
+		 */
+		public Builder color(double[] keys, int[] rgb) {
+			checkKeys(keys, rgb.length);
+			this.colorKeys = keys.clone();
+			this.colorValues = rgb.clone();
+			return this;
+		}
+
+		public EmitterProfile build() {
+			int[][] compiledCounts = { counts[AIR].clone(), counts[UNDERWATER].clone() };
+			float[] compiledSize = new float[CURVE_SAMPLES + 1];
+			float[] compiledAlpha = new float[CURVE_SAMPLES + 1];
+			float[] compiledColor = new float[(CURVE_SAMPLES + 1) * 3];
+			double[] channel = new double[colorValues.length];
+			for (int i = 0; i <= CURVE_SAMPLES; i++) {
+				double t = (double) i / CURVE_SAMPLES;
+				compiledSize[i] = (float) Math.max(0.0, sample(sizeKeys, sizeValues, t));
+				compiledAlpha[i] = (float) Math.max(0.0, Math.min(1.0, sample(alphaKeys, alphaValues, t)));
+				for (int c = 0; c < 3; c++) {
+					int bits = 16 - 8 * c;
+					for (int k = 0; k < colorValues.length; k++) channel[k] = ((colorValues[k] >> bits) & 0xFF) / 255.0;
+					compiledColor[i * 3 + c] = (float) sample(colorKeys, channel, t);
+				}
+			}
+			return new EmitterProfile(burstPeriodTicks, compiledCounts, Arrays.copyOf(shape, shape.length),
+					compiledSize, compiledAlpha, compiledColor);
+		}
+
+		private static void checkKeys(double[] keys, int values) {
+			if (keys.length == 0 || keys.length != values) throw new IllegalArgumentException("curve needs one value per key");
+			double previous = Double.NEGATIVE_INFINITY;
+			for (double k : keys) {
+				if (!(k >= 0.0 && k <= 1.0) || k < previous) {
+					throw new IllegalArgumentException("curve keys must be ascending within 0..1");
+				}
+				previous = k;
+			}
+		}
+
+		private static double sample(double[] keys, double[] values, double t) {
+			if (t <= keys[0]) return values[0];
+			int last = keys.length - 1;
+			if (t >= keys[last]) return values[last];
+			int i = 1;
+			while (keys[i] < t) i++;
+			double span = keys[i] - keys[i - 1];
+			if (span <= 0.0) return values[i];
+			return values[i - 1] + (values[i] - values[i - 1]) * (t - keys[i - 1]) / span;
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package com.sfdesat.coldbreath.sim;
+
+/**
+ * Interval window for the next breath, in seconds, plus which factor is driving it.
+ */
+public record IntervalPlan(double baseSeconds, double minSeconds, double maxSeconds, Driver driver) {
+
+	public enum Driver {
+		NORMAL,
+		SPRINT,
+		HEALTH,
+		UNDERWATER
+	}
+}
@@ -0,0 +1,17 @@
+package com.sfdesat.coldbreath.sim;
+
+public enum ParticleStyle {
+	DEFAULT,
+	BREATH,
+	DUST,
+	SNOWFLAKE,
+	CLOUD;
+
+	public static ParticleStyle fromName(String name) {
+		if (name == null) return DEFAULT;
+		for (ParticleStyle style : values()) {
+			if (style.name().equalsIgnoreCase(name.trim())) return style;
+		}
+		return DEFAULT;
+	}
+}
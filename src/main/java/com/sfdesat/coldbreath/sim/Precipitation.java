@@ -0,0 +1,7 @@
+package com.sfdesat.coldbreath.sim;
+
+public enum Precipitation {
+	NONE,
+	RAIN,
+	SNOW
+}
@@ -0,0 +1,64 @@
+package com.sfdesat.coldbreath.sim;
+
+import com.sfdesat.coldbreath.season.SeasonPhase;
+
+/**
+ * Temperature offset and condensation probability across a whole season cycle, precomputed into fixed-size tables.
+ * Each configured sub-season value sits at the centre of its twelfth of the cycle and the tables interpolate
+ * linearly between neighbours (wrapping from late winter back to early spring), so season changes fade in over
+ * a sub-season instead of stepping at the boundary. Lookups are a single array index.
+ */
+public final class SeasonCurve {
+
+	public static final int SAMPLES = 384;
+
+	private final float[] offsets;
+	private final float[] condensation;
+
+	private SeasonCurve(float[] offsets, float[] condensation) {
+		this.offsets = offsets;
+		this.condensation = condensation;
+	}
+
+	public static SeasonCurve compile(double[] phaseOffsets, boolean[] phaseCondensation) {
+		int phases = phaseOffsets.length;
+		float[] offsets = new float[SAMPLES];
+		float[] condensation = new float[SAMPLES];
+		for (int i = 0; i < SAMPLES; i++) {
+			// Position measured in phases, shifted so that phase k's centre lands on k.
+			double position = (i + 0.5) * phases / SAMPLES - 0.5;
+			int from = Math.floorMod((int) Math.floor(position), phases);
+			int to = (from + 1) % phases;
+			double t = position - Math.floor(position);
+			offsets[i] = (float) (phaseOffsets[from] + (phaseOffsets[to] - phaseOffsets[from]) * t);
+			double c0 = phaseCondensation[from] ? 1.0 : 0.0;
+			double c1 = phaseCondensation[to] ? 1.0 : 0.0;
+			condensation[i] = (float) (c0 + (c1 - c0) * t);
+		}
+		return new SeasonCurve(offsets, condensation);
+	}
+
+	/**
+	 * Table index for a cycle progress in {@code [0, 1)}; values outside wrap around.
+	 */
+	public static int index(double progress) {
+		double wrapped = progress - Math.floor(progress);
+		return Math.min(SAMPLES - 1, (int) (wrapped * SAMPLES));
+	}
+
+	/**
+	 * Cycle progress at the centre of {@code phase}, for season sources that only report the phase.
+	 */
+	public static double progressOf(SeasonPhase phase) {
+		int phases = SeasonPhase.orderedValues().length;
+		return (phase.ordinal() + 0.5) / phases;
+	}
+
+	public float offsetAt(double progress) {
+		return offsets[index(progress)];
+	}
+
+	public float condensationAt(double progress) {
+		return condensation[index(progress)];
+	}
+}
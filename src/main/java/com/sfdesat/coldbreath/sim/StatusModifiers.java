@@ -0,0 +1,15 @@
+package com.sfdesat.coldbreath.sim;
+
+/**
+ * Combined effect of active status effects on breathing: {@code suppress} hides air breath, {@code intervalScale}
+ * multiplies the wait between breaths and {@code sprintBias} is a floor on the sprint blend target.
+ */
+public record StatusModifiers(boolean suppress, double intervalScale, double sprintBias) {
+
+	public static final StatusModifiers NONE = new StatusModifiers(false, 1.0, 0.0);
+
+	public StatusModifiers combine(StatusModifiers other) {
+		return new StatusModifiers(suppress || other.suppress, intervalScale * other.intervalScale,
+				Math.max(sprintBias, other.sprintBias));
+	}
+}
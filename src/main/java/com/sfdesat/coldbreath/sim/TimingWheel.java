@@ -0,0 +1,116 @@
+package com.sfdesat.coldbreath.sim;
+
+import java.util.Arrays;
+
+/**
+ * Hashed timing wheel for breath events. Each tick only the bucket for that tick is visited, so the cost of
+ * {@link #advance} depends on how many events share the bucket rather than on how many emitters exist.
+ * Entries due in a later revolution stay in their bucket until their tick comes round. Nodes live in a pooled
+ * set of parallel arrays and are recycled through a free list, so scheduling does not allocate once warmed up.
+ */
+public final class TimingWheel {
+
+	private static final int NIL = -1;
+	private static final int INITIAL_NODES = 64;
+
+	private final int mask;
+	private final int[] heads;
+	private int[] next;
+	private int[] emitters;
+	private int[] kinds;
+	private int[] stamps;
+	private long[] dueTicks;
+	private int freeHead;
+	private int allocated;
+	private long currentTick;
+
+	public TimingWheel(int bucketCountPowerOfTwo) {
+		if (Integer.bitCount(bucketCountPowerOfTwo) != 1) {
+			throw new IllegalArgumentException("Bucket count must be a power of two: " + bucketCountPowerOfTwo);
+		}
+		this.mask = bucketCountPowerOfTwo - 1;
+		this.heads = new int[bucketCountPowerOfTwo];
+		Arrays.fill(heads, NIL);
+		this.next = new int[INITIAL_NODES];
+		this.emitters = new int[INITIAL_NODES];
+		this.kinds = new int[INITIAL_NODES];
+		this.stamps = new int[INITIAL_NODES];
+		this.dueTicks = new long[INITIAL_NODES];
+		this.freeHead = NIL;
+	}
+
+	/**
+	 * Schedules an event. Ticks at or before the last advanced tick are moved to the next tick.
+	 */
+	public void schedule(int emitter, int kind, int stamp, long dueTick) {
+		long due = Math.max(dueTick, currentTick + 1);
+		int node = acquire();
+		emitters[node] = emitter;
+		kinds[node] = kind;
+		stamps[node] = stamp;
+		dueTicks[node] = due;
+		int bucket = (int) (due & mask);
+		next[node] = heads[bucket];
+		heads[bucket] = node;
+	}
+
+	/**
+	 * Fires every event due at {@code now}. Must be called once per tick with consecutive values; handlers may
+	 * schedule new events, including into the bucket being drained.
+	 */
+	public void advance(long now, Handler handler) {
+		currentTick = now;
+		int bucket = (int) (now & mask);
+		int node = heads[bucket];
+		heads[bucket] = NIL;
+		while (node != NIL) {
+			int following = next[node];
+			if (dueTicks[node] <= now) {
+				int emitter = emitters[node];
+				int kind = kinds[node];
+				int stamp = stamps[node];
+				release(node);
+				handler.fire(emitter, kind, stamp, now);
+			} else {
+				next[node] = heads[bucket];
+				heads[bucket] = node;
+			}
+			node = following;
+		}
+	}
+
+	public void clear() {
+		Arrays.fill(heads, NIL);
+		freeHead = NIL;
+		allocated = 0;
+	}
+
+	public long currentTick() { return currentTick; }
+
+	private int acquire() {
+		if (freeHead != NIL) {
+			int node = freeHead;
+			freeHead = next[node];
+			return node;
+		}
+		if (allocated == next.length) {
+			int capacity = next.length << 1;
+			next = Arrays.copyOf(next, capacity);
+			emitters = Arrays.copyOf(emitters, capacity);
+			kinds = Arrays.copyOf(kinds, capacity);
+			stamps = Arrays.copyOf(stamps, capacity);
+			dueTicks = Arrays.copyOf(dueTicks, capacity);
+		}
+		return allocated++;
+	}
+
+	private void release(int node) {
+		next[node] = freeHead;
+		freeHead = node;
+	}
+
+	@FunctionalInterface
+	public interface Handler {
+		void fire(int emitter, int kind, int stamp, long now);
+	}
+}
@@ -0,0 +1,67 @@
+package com.sfdesat.coldbreath.sim;
+
+import com.sfdesat.config.EffectiveConfig;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Headless replay of a {@link BreathTrace} through a fresh {@link BreathSimulation}, seeded the way the
+ * recording was. Frame {@code i} of the trace is simulation tick {@code i + 1}. Replays are only exact under the
+ * same effective config the trace was recorded with.
+ */
+public final class TraceReplay implements BreathSimulation.Environment, BreathSimulation.Output {
+
+	private final BreathTrace trace;
+	private int frame;
+	private int breaths;
+	private int visibleBreaths;
+	private int emits;
+	private int divergence = -1;
+
+	private TraceReplay(BreathTrace trace) {
+		this.trace = trace;
+	}
+
+	public static Result run(BreathTrace trace, EffectiveConfig cfg) {
+		TraceReplay replay = new TraceReplay(trace);
+		BreathSimulation simulation = new BreathSimulation();
+		RandomGenerator random = BreathRandom.localScheduleFor(trace.seed());
+		long start = System.nanoTime();
+		for (int i = 0; i < trace.size(); i++) {
+			replay.frame = i;
+			simulation.tick(trace.sprinting(i), trace.underwater(i), trace.healthRatio(i), trace.modifiers(i), replay, replay, cfg, random);
+		}
+		long elapsed = System.nanoTime() - start;
+		if (replay.divergence < 0 && replay.breaths != trace.breathCount()) {
+			replay.divergence = Math.min(replay.breaths, trace.breathCount());
+		}
+		return new Result(trace.size(), replay.breaths, replay.visibleBreaths, replay.emits, replay.divergence, elapsed);
+	}
+
+	@Override
+	public BreathInputs sample() {
+		return trace.inputs(frame);
+	}
+
+	@Override
+	public void breath(BreathDecision decision, BreathInputs inputs, long tick) {
+		int index = breaths++;
+		if (decision.visible()) visibleBreaths++;
+		if (divergence < 0 && (index >= trace.breathCount() || trace.breathTick(index) != tick)) {
+			divergence = index;
+		}
+	}
+
+	@Override
+	public void emit(boolean underwater, long tick) {
+		emits++;
+	}
+
+	/**
+	 * Replay outcome. {@code divergence} is the index of the first breath attempt that differs from the
+	 * recording, or -1 when the replay matched it exactly.
+	 */
+	public record Result(int frames, int breaths, int visibleBreaths, int emits, int divergence, long nanos) {
+		public boolean matched() { return divergence < 0; }
+	}
+}
@@ -0,0 +1,103 @@
+package com.sfdesat.coldbreath.sim;
+
+import java.util.SplittableRandom;
+
+/**
+ * Horizontal wind direction and gust strength over the world, read from a small tileable noise table built once at
+ * class load. The table holds two octaves of smoothly interpolated random vectors on a wrapping lattice, so it
+ * repeats seamlessly every {@link #TILE_BLOCKS} blocks; the lookup position scrolls with time so gusts travel
+ * across the world. A sample is a bilinear read of four table cells per component and never computes noise.
+ */
+public final class WindField {
+
+	public static final int TABLE_SIZE = 64;
+	private static final int MASK = TABLE_SIZE - 1;
+	private static final double TEXELS_PER_BLOCK = 0.25;
+	public static final int TILE_BLOCKS = (int) (TABLE_SIZE / TEXELS_PER_BLOCK);
+	// Texels per tick along each axis; the field drifts about four blocks a second.
+	private static final double SCROLL_U = 0.04;
+	private static final double SCROLL_V = 0.03;
+	private static final long SEED = 0x5EEDC01DB4EA7L;
+
+	private static final float[] X = new float[TABLE_SIZE * TABLE_SIZE];
+	private static final float[] Z = new float[TABLE_SIZE * TABLE_SIZE];
+
+	static {
+		SplittableRandom random = new SplittableRandom(SEED);
+		addOctave(random, 8, 1.0F);
+		addOctave(random, 16, 0.5F);
+		float max = 0.0F;
+		for (int i = 0; i < X.length; i++) max = Math.max(max, (float) Math.sqrt(X[i] * X[i] + Z[i] * Z[i]));
+		if (max > 0.0F) {
+			for (int i = 0; i < X.length; i++) {
+				X[i] /= max;
+				Z[i] /= max;
+			}
+		}
+	}
+
+	private WindField() {}
+
+	/**
+	 * Wind along world X at a position and time (in ticks), in {@code [-1, 1]}.
+	 */
+	public static float x(double worldX, double worldZ, double time) {
+		return sample(X, worldX * TEXELS_PER_BLOCK + time * SCROLL_U, worldZ * TEXELS_PER_BLOCK + time * SCROLL_V);
+	}
+
+	/**
+	 * Wind along world Z at a position and time (in ticks), in {@code [-1, 1]}.
+	 */
+	public static float z(double worldX, double worldZ, double time) {
+		return sample(Z, worldX * TEXELS_PER_BLOCK + time * SCROLL_U, worldZ * TEXELS_PER_BLOCK + time * SCROLL_V);
+	}
+
+	private static float sample(float[] table, double u, double v) {
+		double fu = Math.floor(u);
+		double fv = Math.floor(v);
+		float tu = (float) (u - fu);
+		float tv = (float) (v - fv);
+		int u0 = (int) (long) fu & MASK;
+		int v0 = (int) (long) fv & MASK;
+		int u1 = (u0 + 1) & MASK;
+		int v1 = (v0 + 1) & MASK;
+		float top = table[v0 * TABLE_SIZE + u0] + (table[v0 * TABLE_SIZE + u1] - table[v0 * TABLE_SIZE + u0]) * tu;
+		float bottom = table[v1 * TABLE_SIZE + u0] + (table[v1 * TABLE_SIZE + u1] - table[v1 * TABLE_SIZE + u0]) * tu;
+		return top + (bottom - top) * tv;
+	}
+
+	private static void addOctave(SplittableRandom random, int lattice, float amplitude) {
+		float[] lx = new float[lattice * lattice];
+		float[] lz = new float[lattice * lattice];
+		for (int i = 0; i < lx.length; i++) {
+			double angle = random.nextDouble() * Math.PI * 2.0;
+			double magnitude = 0.25 + random.nextDouble() * 0.75;
+			lx[i] = (float) (Math.cos(angle) * magnitude);
+			lz[i] = (float) (Math.sin(angle) * magnitude);
+		}
+		int texelsPerCell = TABLE_SIZE / lattice;
+		for (int v = 0; v < TABLE_SIZE; v++) {
+			int cv0 = v / texelsPerCell;
+			int cv1 = (cv0 + 1) % lattice;
+			float sv = smooth((float) (v % texelsPerCell) / texelsPerCell);
+			for (int u = 0; u < TABLE_SIZE; u++) {
+				int cu0 = u / texelsPerCell;
+				int cu1 = (cu0 + 1) % lattice;
+				float su = smooth((float) (u % texelsPerCell) / texelsPerCell);
+				int i = v * TABLE_SIZE + u;
+				X[i] += amplitude * blend(lx, lattice, cu0, cu1, cv0, cv1, su, sv);
+				Z[i] += amplitude * blend(lz, lattice, cu0, cu1, cv0, cv1, su, sv);
+			}
+		}
+	}
+
+	private static float blend(float[] lattice, int size, int u0, int u1, int v0, int v1, float su, float sv) {
+		float top = lattice[v0 * size + u0] + (lattice[v0 * size + u1] - lattice[v0 * size + u0]) * su;
+		float bottom = lattice[v1 * size + u0] + (lattice[v1 * size + u1] - lattice[v1 * size + u0]) * su;
+		return top + (bottom - top) * sv;
+	}
+
+	private static float smooth(float t) {
+		return t * t * (3.0F - 2.0F * t);
+	}
+}
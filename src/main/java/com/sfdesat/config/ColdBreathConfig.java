@@ -8,6 +8,10 @@ public class ColdBreathConfig {
 	public boolean alwaysShowBreath = false; // when true, breath appears even in warm temperatures
     public boolean visibleInNether = false; // show effect in Nether when true
     public boolean visibleInEnd = true; // show effect in End when true
+	public boolean otherPlayersBreathEnabled = true; // show breath on other players
+	public boolean mobBreathEnabled = true; // show breath on breathing mobs (not undead, golems or water mobs)
+	// Per-dimension overrides keyed by dimension id; see DimensionProfileEntry
+	public DimensionProfileEntry[] dimensionProfiles = defaultDimensionProfiles();
 	// Seconds-based settings (with 0.1s precision via UI sliders)
 	public double baseIntervalSeconds = 5.0; // default 5.0s
 	public double intervalDeviationSeconds = 1.0; // +/- 1.0s
@@ -25,6 +29,20 @@ public class ColdBreathConfig {
 	// Visuals
 	public int breathColor = 0xE6F2FF; // RGB hex color for normal breath particles
 	public double breathSize = 0.6; // particle size/scale for normal breath particles
+	public boolean windEnabled = true; // breath drifts with a wind that varies over time and place
+	public double windStrength = 1.0; // wind speed multiplier; stronger in storms, at altitude and outdoors
+
+	// Level of detail (other players, mobs and third-person views)
+	public boolean lodEnabled = true;
+	public boolean lodFrustumCulling = true; // skip emitters outside the camera's view cone
+	public double lodFullDetailDistance = 16.0; // full particle count up to this many blocks
+	public double lodReducedDistance = 32.0; // half particle count up to this many blocks, quarter beyond
+	public double lodCullDistance = 64.0; // no particles beyond this many blocks
+
+	// Particle budget (backs off when frames slow down or too many breath particles are alive)
+	public boolean particleBudgetEnabled = true;
+	public int particleBudgetMinFps = 40; // start cutting particles below this frame rate
+	public int particleBudgetMaxLive = 800; // start cutting particles above this many live breath particles
 
 	// Debug overlay
 	public boolean debugEnabled = false;
@@ -34,6 +52,8 @@ public class ColdBreathConfig {
 	public boolean seasonsEnabled = true;
 	public boolean sereneSeasonsIntegration = true;
 	public boolean fabricSeasonsIntegration = true;
+	public boolean seasonSmoothTransitions = true; // interpolate season offsets and condensation across the cycle
+	public int seasonRefreshIntervalTicks = 1200; // re-sample the season mod at least this often, besides day changes
 	public double[] seasonTemperatureOffsets = defaultTemperatureOffsets();
 	public boolean[] seasonBreathCondensation = defaultBreathCondensation();
 
@@ -46,6 +66,22 @@ public class ColdBreathConfig {
 	public boolean altitudeAdjustmentEnabled = true; // enable altitude-based temperature adjustment
 	public double altitudeTemperatureRate = 0.00125; // temperature decrease per block above sea level
 
+	// Biome blending (smooths temperature across biome borders)
+	public boolean biomeBlendEnabled = true;
+	public int biomeBlendRadius = 8; // blocks; rounded up to the 4-block biome grid
+
+	// Shelter and weather
+	public boolean shelterEnabled = true; // warmer under a roof (houses, igloos, caves)
+	public double shelterTemperatureBonus = 0.1;
+	public boolean weatherEnabled = true; // colder when exposed to rain or snow
+	public double rainTemperatureModifier = -0.05;
+	public double snowTemperatureModifier = -0.15;
+
+	// Heat sources (lava, fire, lit campfires and furnaces, magma)
+	public boolean heatSourcesEnabled = true;
+	public double heatSourceRadius = 6.0; // blocks over which a heat source fades out
+	public double heatSourceStrength = 1.0; // multiplier on each source's warmth
+
 	// Breath condensation settings
 	public boolean breathCondensationEnabled = true; // enable visible breath condensation during specific time window
 	public long breathCondensationStartTick = 22500; // start of condensation time window (in ticks)
@@ -60,6 +96,62 @@ public class ColdBreathConfig {
 	public double lowHealthIntervalSeconds = 1.0; // breathing interval when at 0 hearts (very fast)
 	public double healthIntervalDeviationSeconds = 0.2; // random variation for health breathing (0.0-0.5s)
 
+	// Temperature mods (Tough As Nails and coldbreath:temperature providers)
+	public boolean temperatureProvidersEnabled = true;
+
+	// Status effects, matched by effect id (e.g. "minecraft:slowness")
+	public boolean statusEffectsEnabled = true;
+	public StatusEffectModifier[] statusEffectModifiers = defaultStatusEffectModifiers();
+
+	public static class StatusEffectModifier {
+		public String effect;
+		public boolean suppress = false; // hide air breath while active
+		public double intervalScale = 1.0; // multiplies the wait between breaths
+		public double sprintBias = 0.0; // 0-1, breathe as if partly sprinting
+
+		public StatusEffectModifier() {}
+
+		public StatusEffectModifier(String effect, boolean suppress, double intervalScale, double sprintBias) {
+			this.effect = effect;
+			this.suppress = suppress;
+			this.intervalScale = intervalScale;
+			this.sprintBias = sprintBias;
+		}
+	}
+
+	public static class DimensionProfileEntry {
+		public String dimension;
+		public String visibility = "default"; // default, visible or hidden
+		public double temperatureOffset = 0.0; // added to the effective temperature
+		public boolean overrideSeaLevel = false;
+		public int seaLevel = 63; // used for altitude when overrideSeaLevel is true
+		public String particleStyle = "default"; // default, breath, dust, snowflake or cloud
+
+		public DimensionProfileEntry() {}
+
+		public DimensionProfileEntry(String dimension) {
+			this.dimension = dimension;
+		}
+	}
+
+	public static DimensionProfileEntry[] defaultDimensionProfiles() {
+		return new DimensionProfileEntry[] {
+				new DimensionProfileEntry("minecraft:overworld"),
+				new DimensionProfileEntry("minecraft:the_nether"),
+				new DimensionProfileEntry("minecraft:the_end")
+		};
+	}
+
+	public static StatusEffectModifier[] defaultStatusEffectModifiers() {
+		return new StatusEffectModifier[] {
+				new StatusEffectModifier("minecraft:fire_resistance", true, 1.0, 0.0),
+				new StatusEffectModifier("minecraft:slowness", false, 1.3, 0.0),
+				new StatusEffectModifier("minecraft:poison", false, 0.6, 0.0),
+				new StatusEffectModifier("minecraft:wither", false, 0.6, 0.0),
+				new StatusEffectModifier("minecraft:speed", false, 1.0, 0.5)
+		};
+	}
+
 	public static double[] defaultTemperatureOffsets() {
 		return new double[] {
 				0.02D, 0.04D, 0.05D,
@@ -13,6 +13,8 @@ import java.nio.file.Path;
 public final class ConfigManager {
 	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
 	private static ColdBreathConfig cached = null;
+	private static volatile EffectiveConfig effective = null;
+	private static long generation = 0L;
 
 	private ConfigManager() {}
 
@@ -23,11 +25,30 @@ public final class ConfigManager {
 			cached = load();
 			if (fileMissing) {
 				save();
+			} else {
+				publish();
 			}
 		}
 		return cached;
 	}
 
+	/**
+	 * Returns the compiled snapshot of the current config. Safe to call from any thread.
+	 */
+	public static EffectiveConfig effective() {
+		EffectiveConfig snapshot = effective;
+		if (snapshot == null) {
+			get();
+			snapshot = effective;
+		}
+		return snapshot;
+	}
+
+	private static synchronized void publish() {
+		if (cached == null) return;
+		effective = EffectiveConfig.compile(cached, ++generation);
+	}
+
 	public static ColdBreathConfig load() {
 		Path path = getConfigPath();
 		if (Files.isRegularFile(path)) {
@@ -46,6 +67,7 @@ public final class ConfigManager {
 
 	public static void save() {
 		if (cached == null) return;
+		publish();
 		Path path = getConfigPath();
 		try {
 			Files.createDirectories(path.getParent());
@@ -0,0 +1,258 @@
+package com.sfdesat.config;
+
+import com.sfdesat.coldbreath.season.SeasonPhase;
+import com.sfdesat.coldbreath.sim.DimensionProfile;
+import com.sfdesat.coldbreath.sim.ParticleStyle;
+import com.sfdesat.coldbreath.sim.SeasonCurve;
+import com.sfdesat.coldbreath.sim.StatusModifiers;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable, pre-clamped view of {@link ColdBreathConfig} compiled by {@link ConfigManager} whenever the config is
+ * loaded or saved. Tick, render and API readers take the current snapshot from {@link ConfigManager#effective()}
+ * and never see a half-edited config. {@link #generation} increases with every compile so caches can tell when
+ * the config they were built from has been replaced.
+ */
+public final class EffectiveConfig {
+
+	private static final double TICK_SECONDS = 1.0 / 20.0;
+
+	public final long generation;
+
+	public final boolean enabled;
+	public final boolean visibleInCreative;
+	public final boolean alwaysShowBreath;
+	public final boolean visibleInNether;
+	public final boolean visibleInEnd;
+	public final boolean otherPlayersBreathEnabled;
+	public final boolean mobBreathEnabled;
+	private final Map<String, DimensionProfile> dimensionProfiles;
+	public final boolean dimensionTemperatureOffsets;
+
+	// Intervals, clamped to at least 0.1s base and non-negative deviation
+	public final double baseIntervalSeconds;
+	public final double intervalDeviationSeconds;
+	public final boolean sprintingIntervalsEnabled;
+	public final double sprintBaseIntervalSeconds;
+	public final double sprintIntervalDeviationSeconds;
+	public final double sprintUpRatePerTick;
+	public final double sprintDownRatePerTick;
+	public final boolean healthBasedBreathingEnabled;
+	public final double lowHealthIntervalSeconds;
+	public final double healthIntervalDeviationSeconds;
+	public final boolean underwaterEnabled;
+	public final double underwaterBaseIntervalSeconds;
+	public final double underwaterMinSeconds;
+	public final double underwaterMaxSeconds;
+
+	// Emission
+	public final double forwardOffset;
+	public final double downOffset;
+	public final int breathBurstDurationTicks;
+	public final int breathColor;
+	public final float breathSize;
+	public final boolean windEnabled;
+	public final float windStrength;
+
+	// Level of detail, distances stored squared
+	public final boolean lodEnabled;
+	public final boolean lodFrustumCulling;
+	public final double lodFullDetailDistanceSq;
+	public final double lodReducedDistanceSq;
+	public final double lodCullDistanceSq;
+	public final boolean particleBudgetEnabled;
+	public final double particleBudgetFrameMillis;
+	public final int particleBudgetMaxLive;
+
+	// Temperature and condensation
+	public final boolean altitudeAdjustmentEnabled;
+	public final float altitudeTemperatureRate;
+	public final boolean biomeBlendEnabled;
+	public final int biomeBlendQuartRadius;
+	public final boolean shelterEnabled;
+	public final double shelterTemperatureBonus;
+	public final boolean weatherEnabled;
+	public final double rainTemperatureModifier;
+	public final double snowTemperatureModifier;
+	public final boolean heatSourcesEnabled;
+	public final double heatSourceRadius;
+	public final double heatSourceStrength;
+	public final double alwaysBreathTemperature;
+	public final boolean breathCondensationEnabled;
+	public final long breathCondensationStartTick;
+	public final long breathCondensationEndTick;
+	public final double maxBreathCondensationTemperature;
+
+	public final boolean temperatureProvidersEnabled;
+
+	// Status effects
+	public final boolean statusEffectsEnabled;
+	private final Map<String, StatusModifiers> statusEffectModifiers;
+
+	// Seasons
+	public final boolean seasonsEnabled;
+	public final boolean sereneSeasonsIntegration;
+	public final boolean fabricSeasonsIntegration;
+	public final int seasonRefreshIntervalTicks;
+	public final boolean seasonSmoothTransitions;
+	public final SeasonCurve seasonCurve;
+	private final double[] seasonTemperatureOffsets;
+	private final boolean[] seasonBreathCondensation;
+
+	// Debug
+	public final boolean debugEnabled;
+	public final boolean debugCommandsEnabled;
+
+	private EffectiveConfig(ColdBreathConfig cfg, long generation) {
+		this.generation = generation;
+
+		this.enabled = cfg.enabled;
+		this.visibleInCreative = cfg.visibleInCreative;
+		this.alwaysShowBreath = cfg.alwaysShowBreath;
+		this.visibleInNether = cfg.visibleInNether;
+		this.visibleInEnd = cfg.visibleInEnd;
+		this.otherPlayersBreathEnabled = cfg.otherPlayersBreathEnabled;
+		this.mobBreathEnabled = cfg.mobBreathEnabled;
+		this.dimensionProfiles = compileDimensionProfiles(cfg.dimensionProfiles);
+		this.dimensionTemperatureOffsets = dimensionProfiles.values().stream().anyMatch(p -> p.temperatureOffset() != 0.0);
+
+		this.baseIntervalSeconds = Math.max(0.1, cfg.baseIntervalSeconds);
+		this.intervalDeviationSeconds = Math.max(0.0, cfg.intervalDeviationSeconds);
+		this.sprintingIntervalsEnabled = cfg.sprintingIntervalsEnabled;
+		this.sprintBaseIntervalSeconds = Math.max(0.1, cfg.sprintBaseIntervalSeconds);
+		this.sprintIntervalDeviationSeconds = Math.max(0.0, cfg.sprintIntervalDeviationSeconds);
+		this.sprintUpRatePerTick = cfg.sprintBuildUpSeconds <= 0 ? 1.0 : TICK_SECONDS / cfg.sprintBuildUpSeconds;
+		this.sprintDownRatePerTick = cfg.sprintBuildDownSeconds <= 0 ? 1.0 : TICK_SECONDS / cfg.sprintBuildDownSeconds;
+		this.healthBasedBreathingEnabled = cfg.healthBasedBreathingEnabled;
+		this.lowHealthIntervalSeconds = Math.max(0.1, cfg.lowHealthIntervalSeconds);
+		this.healthIntervalDeviationSeconds = Math.max(0.0, cfg.healthIntervalDeviationSeconds);
+		this.underwaterEnabled = cfg.underwaterEnabled;
+		this.underwaterBaseIntervalSeconds = Math.max(0.1, cfg.underwaterBaseIntervalSeconds);
+		double underwaterDev = Math.max(0.0, cfg.underwaterIntervalDeviationSeconds);
+		this.underwaterMinSeconds = Math.max(0.1, underwaterBaseIntervalSeconds - underwaterDev);
+		this.underwaterMaxSeconds = Math.max(underwaterMinSeconds, underwaterBaseIntervalSeconds + underwaterDev);
+
+		this.forwardOffset = cfg.forwardOffset;
+		this.downOffset = cfg.downOffset;
+		this.breathBurstDurationTicks = Math.max(0, cfg.breathBurstDurationTicks);
+		this.breathColor = cfg.breathColor & 0xFFFFFF;
+		this.breathSize = (float) Math.max(0.1, cfg.breathSize);
+		this.windStrength = (float) Math.max(0.0, Math.min(5.0, cfg.windStrength));
+		this.windEnabled = cfg.windEnabled && this.windStrength > 0.0F;
+
+		this.lodEnabled = cfg.lodEnabled;
+		this.lodFrustumCulling = cfg.lodFrustumCulling;
+		double full = Math.max(0.0, cfg.lodFullDetailDistance);
+		double reduced = Math.max(full, cfg.lodReducedDistance);
+		double cull = Math.max(0.0, cfg.lodCullDistance);
+		this.lodFullDetailDistanceSq = full * full;
+		this.lodReducedDistanceSq = reduced * reduced;
+		this.lodCullDistanceSq = cull * cull;
+		this.particleBudgetEnabled = cfg.particleBudgetEnabled;
+		this.particleBudgetFrameMillis = 1000.0 / Math.max(5, cfg.particleBudgetMinFps);
+		this.particleBudgetMaxLive = Math.max(16, cfg.particleBudgetMaxLive);
+
+		this.altitudeAdjustmentEnabled = cfg.altitudeAdjustmentEnabled;
+		this.altitudeTemperatureRate = (float) cfg.altitudeTemperatureRate;
+		int blendBlocks = Math.max(0, Math.min(32, cfg.biomeBlendRadius));
+		this.biomeBlendQuartRadius = (blendBlocks + 3) >> 2;
+		this.biomeBlendEnabled = cfg.biomeBlendEnabled && this.biomeBlendQuartRadius > 0;
+		this.shelterEnabled = cfg.shelterEnabled;
+		this.shelterTemperatureBonus = cfg.shelterTemperatureBonus;
+		this.weatherEnabled = cfg.weatherEnabled;
+		this.rainTemperatureModifier = cfg.rainTemperatureModifier;
+		this.snowTemperatureModifier = cfg.snowTemperatureModifier;
+		this.heatSourcesEnabled = cfg.heatSourcesEnabled;
+		this.heatSourceRadius = Math.max(1.0, Math.min(16.0, cfg.heatSourceRadius));
+		this.heatSourceStrength = Math.max(0.0, cfg.heatSourceStrength);
+		this.alwaysBreathTemperature = cfg.alwaysBreathTemperature;
+		this.breathCondensationEnabled = cfg.breathCondensationEnabled;
+		this.breathCondensationStartTick = cfg.breathCondensationStartTick;
+		this.breathCondensationEndTick = cfg.breathCondensationEndTick;
+		this.maxBreathCondensationTemperature = cfg.maxBreathCondensationTemperature;
+
+		this.temperatureProvidersEnabled = cfg.temperatureProvidersEnabled;
+
+		this.statusEffectsEnabled = cfg.statusEffectsEnabled;
+		this.statusEffectModifiers = compileStatusEffects(cfg.statusEffectModifiers);
+
+		this.seasonsEnabled = cfg.seasonsEnabled;
+		this.sereneSeasonsIntegration = cfg.sereneSeasonsIntegration;
+		this.fabricSeasonsIntegration = cfg.fabricSeasonsIntegration;
+		this.seasonRefreshIntervalTicks = Math.max(20, cfg.seasonRefreshIntervalTicks);
+		this.seasonTemperatureOffsets = cfg.seasonTemperatureOffsets.clone();
+		this.seasonBreathCondensation = cfg.seasonBreathCondensation.clone();
+		this.seasonSmoothTransitions = cfg.seasonSmoothTransitions;
+		this.seasonCurve = SeasonCurve.compile(seasonTemperatureOffsets, seasonBreathCondensation);
+
+		this.debugEnabled = cfg.debugEnabled;
+		this.debugCommandsEnabled = cfg.debugCommandsEnabled;
+	}
+
+	public static EffectiveConfig compile(ColdBreathConfig cfg, long generation) {
+		return new EffectiveConfig(cfg, generation);
+	}
+
+	/**
+	 * Modifiers for a status effect id, or null if the effect does not affect breathing.
+	 */
+	public StatusModifiers statusEffectModifier(String effectId) {
+		return statusEffectModifiers.get(effectId);
+	}
+
+	/**
+	 * Profile for a dimension id, or {@link DimensionProfile#DEFAULT} if none is configured.
+	 */
+	public DimensionProfile dimensionProfile(String dimensionId) {
+		return dimensionProfiles.getOrDefault(dimensionId, DimensionProfile.DEFAULT);
+	}
+
+	private static Map<String, DimensionProfile> compileDimensionProfiles(ColdBreathConfig.DimensionProfileEntry[] entries) {
+		if (entries == null) return Map.of();
+		Map<String, DimensionProfile> map = new HashMap<>();
+		for (ColdBreathConfig.DimensionProfileEntry entry : entries) {
+			if (entry == null || entry.dimension == null || entry.dimension.isBlank()) continue;
+			String visibility = entry.visibility == null ? "default" : entry.visibility.trim().toLowerCase(Locale.ROOT);
+			Boolean visible = switch (visibility) {
+				case "visible" -> Boolean.TRUE;
+				case "hidden" -> Boolean.FALSE;
+				default -> null;
+			};
+			map.put(normalizeId(entry.dimension), new DimensionProfile(visible, entry.temperatureOffset,
+					entry.overrideSeaLevel ? entry.seaLevel : null, ParticleStyle.fromName(entry.particleStyle)));
+		}
+		return Map.copyOf(map);
+	}
+
+	private static Map<String, StatusModifiers> compileStatusEffects(ColdBreathConfig.StatusEffectModifier[] entries) {
+		Map<String, StatusModifiers> map = new HashMap<>();
+		if (entries == null) return Map.of();
+		for (ColdBreathConfig.StatusEffectModifier entry : entries) {
+			if (entry == null || entry.effect == null || entry.effect.isBlank()) continue;
+			String id = normalizeId(entry.effect);
+			StatusModifiers modifiers = new StatusModifiers(entry.suppress,
+					Math.max(0.1, Math.min(10.0, entry.intervalScale)),
+					Math.max(0.0, Math.min(1.0, entry.sprintBias)));
+			map.merge(id, modifiers, StatusModifiers::combine);
+		}
+		return Map.copyOf(map);
+	}
+
+	private static String normalizeId(String raw) {
+		String id = raw.trim().toLowerCase(Locale.ROOT);
+		return id.indexOf(':') < 0 ? "minecraft:" + id : id;
+	}
+
+	public double seasonTemperatureOffset(SeasonPhase phase) {
+		if (phase == null || phase == SeasonPhase.UNKNOWN) return 0.0D;
+		return seasonTemperatureOffsets[phase.ordinal()];
+	}
+
+	public boolean seasonBreathCondensation(SeasonPhase phase) {
+		if (phase == null || phase == SeasonPhase.UNKNOWN) return true;
+		return seasonBreathCondensation[phase.ordinal()];
+	}
+}